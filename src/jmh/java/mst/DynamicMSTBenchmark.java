@@ -0,0 +1,50 @@
+package mst;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// One random weight change applied to a DynamicMST, against recomputing the
+// MST from scratch after the same change
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class DynamicMSTBenchmark {
+
+    @Param({"1000", "2000"})
+    int vertices;
+
+    @Param({"0.05", "0.15"})
+    double density;
+
+    @Param({"1000"})
+    int weightRange;
+
+    @Param({"42"})
+    long seed;
+
+    private Graph graph;
+    private DynamicMST dynamic;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = GraphGenerator.generate(vertices, density, weightRange, seed);
+        dynamic = new DynamicMST(graph);
+        random = new Random(seed);
+    }
+
+    @Benchmark
+    public long updateWeight() {
+        dynamic.updateWeight(random.nextInt(graph.getEdgeCount()), random.nextInt(weightRange) + 1);
+        return dynamic.getTotalCost();
+    }
+
+    @Benchmark
+    public MSTResult recompute() {
+        return new KruskalMST().findMST(new Graph(graph.getVertices(), graph.getEdges()));
+    }
+}
@@ -0,0 +1,64 @@
+package mst;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Cost of turning vertex/edge lists into a Graph, and of its first CSR build,
+// against the Builder's validated and trusted int-column paths
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class GraphBenchmark {
+
+    @Param({"300", "1000", "2000"})
+    int vertices;
+
+    @Param({"0.05", "0.15", "1.0"})
+    double density;
+
+    @Param({"100"})
+    int weightRange;
+
+    @Param({"42"})
+    long seed;
+
+    private List<String> vertexNames;
+    private List<Graph.Edge> edges;
+    private int[] from;
+    private int[] to;
+    private int[] weights;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        vertexNames = GraphGenerator.vertexNames(vertices);
+        edges = GraphGenerator.generateEdges(vertices, density, weightRange, seed);
+        CSRGraph csr = new Graph(vertexNames, edges).getCSR();
+        from = csr.edgeSources;
+        to = csr.edgeTargets;
+        weights = csr.edgeWeights;
+    }
+
+    @Benchmark
+    public Graph construct() {
+        return new Graph(vertexNames, edges);
+    }
+
+    @Benchmark
+    public CSRGraph constructWithCSR() {
+        return new Graph(vertexNames, edges).getCSR();
+    }
+
+    @Benchmark
+    public CSRGraph builderWithCSR() {
+        return Graph.fromArrays(vertexNames, from, to, weights).getCSR();
+    }
+
+    @Benchmark
+    public CSRGraph trustedBuilderWithCSR() {
+        return new Graph.Builder(vertexNames).trusted().addEdges(from, to, weights).build().getCSR();
+    }
+}
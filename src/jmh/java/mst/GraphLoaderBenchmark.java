@@ -0,0 +1,84 @@
+package mst;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Parsing a generated graphs file in the JSON and binary formats
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class GraphLoaderBenchmark {
+
+    @Param({"300", "1000"})
+    int vertices;
+
+    @Param({"0.15", "1.0"})
+    double density;
+
+    @Param({"100"})
+    int weightRange;
+
+    @Param({"42"})
+    long seed;
+
+    private File jsonFile;
+    private File binaryFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Graph graph = GraphGenerator.generate(vertices, density, weightRange, seed);
+
+        jsonFile = Files.createTempFile("mst-bench", ".json").toFile();
+        try (JsonGenerator generator = new JsonFactory().createGenerator(jsonFile, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("graphs");
+            generator.writeStartObject();
+            generator.writeNumberField("id", 1);
+            generator.writeArrayFieldStart("nodes");
+            for (String vertex : graph.getVertices()) generator.writeString(vertex);
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("edges");
+            for (Graph.Edge edge : graph.getEdges()) {
+                generator.writeStartObject();
+                generator.writeStringField("from", edge.from);
+                generator.writeStringField("to", edge.to);
+                generator.writeNumberField("weight", edge.weight);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+
+        binaryFile = Files.createTempFile("mst-bench", BinaryGraphFormat.EXTENSION).toFile();
+        BinaryGraphFormat.write(Collections.singletonList(graph).iterator(), binaryFile.toPath());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jsonFile.delete();
+        binaryFile.delete();
+    }
+
+    @Benchmark
+    public List<Graph> loadJson() throws IOException {
+        return GraphLoader.loadGraphsFromFile(jsonFile.getPath());
+    }
+
+    @Benchmark
+    public List<Graph> loadBinary() throws IOException {
+        return GraphLoader.loadGraphsFromFile(binaryFile.getPath());
+    }
+}
@@ -0,0 +1,65 @@
+package mst;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// End-to-end findMST cost per engine. The CSR view is built in setup so the
+// measurements cover the algorithms only.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class MSTAlgorithmsBenchmark {
+
+    @Param({"300", "1000", "2000"})
+    int vertices;
+
+    @Param({"0.05", "0.15", "1.0"})
+    double density;
+
+    @Param({"100", "1000000"})
+    int weightRange;
+
+    @Param({"42"})
+    long seed;
+
+    private Graph graph;
+    private final PrimMST prim = new PrimMST();
+    private final DensePrimMST densePrim = new DensePrimMST();
+    private final KruskalMST kruskal = new KruskalMST();
+    private final FilterKruskalMST filterKruskal = new FilterKruskalMST();
+    private final BoruvkaMST boruvka = new BoruvkaMST();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = GraphGenerator.generate(vertices, density, weightRange, seed);
+        graph.getCSR();
+    }
+
+    @Benchmark
+    public MSTResult prim() {
+        return prim.findMST(graph);
+    }
+
+    @Benchmark
+    public MSTResult densePrim() {
+        return densePrim.findMST(graph);
+    }
+
+    @Benchmark
+    public MSTResult kruskal() {
+        return kruskal.findMST(graph);
+    }
+
+    @Benchmark
+    public MSTResult filterKruskal() {
+        return filterKruskal.findMST(graph);
+    }
+
+    @Benchmark
+    public MSTResult boruvka() {
+        return boruvka.findMST(graph);
+    }
+}
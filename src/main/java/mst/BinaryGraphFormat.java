@@ -0,0 +1,245 @@
+package mst;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+// Compact binary container for graph files (big-endian, extension .mstg).
+//
+//   header:  int magic ("MSTG"), int version, int graphCount
+//   graph:   long sectionBytes (bytes that follow this field)
+//            int vertexCount, int edgeCount
+//            vertexCount x (int nameBytes, UTF-8 name)
+//            edgeCount x (int from, int to, int weight)   fixed-width records
+//
+// Sections are memory-mapped one at a time, so loading is a bulk copy out of
+// the page cache instead of a parse, and no section may exceed 2 GB.
+public final class BinaryGraphFormat {
+    public static final int MAGIC = 0x4D535447;
+    public static final int VERSION = 1;
+    public static final String EXTENSION = ".mstg";
+
+    private static final int HEADER_BYTES = 12;
+    private static final int EDGE_RECORD_BYTES = 12;
+
+    private BinaryGraphFormat() {}
+
+    public static boolean isBinaryGraphFile(Path path) throws IOException {
+        if (Files.size(path) < 4) return false;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            return in.readInt() == MAGIC;
+        }
+    }
+
+    // Converts a JSON graphs file, streaming one graph at a time
+    public static int convert(String jsonFile, String binaryFile) throws IOException {
+        try (GraphLoader.GraphIterator graphs = GraphLoader.openGraphs(jsonFile)) {
+            return write(graphs, Path.of(binaryFile));
+        }
+    }
+
+    public static int write(Iterator<Graph> graphs, Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        int graphCount = 0;
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(0); // patched below once the count is known
+
+            while (graphs.hasNext()) {
+                writeGraph(out, graphs.next());
+                graphCount++;
+            }
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(8);
+            file.writeInt(graphCount);
+        }
+        return graphCount;
+    }
+
+    private static void writeGraph(DataOutputStream out, Graph graph) throws IOException {
+        List<String> vertices = graph.getVertices();
+        byte[][] names = new byte[vertices.size()][];
+        long sectionBytes = 8;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = vertices.get(i).getBytes(StandardCharsets.UTF_8);
+            sectionBytes += 4 + names[i].length;
+        }
+        sectionBytes += (long) graph.getEdgeCount() * EDGE_RECORD_BYTES;
+
+        out.writeLong(sectionBytes);
+        out.writeInt(vertices.size());
+        out.writeInt(graph.getEdgeCount());
+        for (byte[] name : names) {
+            out.writeInt(name.length);
+            out.write(name);
+        }
+
+        CSRGraph csr = graph.getCSR();
+        for (int e = 0; e < csr.edgeCount; e++) {
+            out.writeInt(csr.edgeSources[e]);
+            out.writeInt(csr.edgeTargets[e]);
+            out.writeInt(csr.edgeWeights[e]);
+        }
+    }
+
+    public static List<Graph> read(Path path) throws IOException {
+        List<Graph> graphs = new ArrayList<>();
+        try (GraphLoader.GraphIterator iterator = openGraphs(path)) {
+            while (iterator.hasNextGraph()) {
+                graphs.add(iterator.nextGraph());
+            }
+        }
+        return graphs;
+    }
+
+    public static GraphLoader.GraphIterator openGraphs(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a binary graph file: " + path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary graph version: " + version);
+            }
+            int graphCount = header.getInt();
+            return new MappedGraphIterator(channel, graphCount);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static final class MappedGraphIterator extends GraphLoader.GraphIterator {
+        private final FileChannel channel;
+        private final int graphCount;
+        private int graphsRead;
+        private long position = HEADER_BYTES;
+
+        MappedGraphIterator(FileChannel channel, int graphCount) {
+            this.channel = channel;
+            this.graphCount = graphCount;
+        }
+
+        @Override
+        public boolean hasNextGraph() {
+            return graphsRead < graphCount;
+        }
+
+        @Override
+        public Graph nextGraph() throws IOException {
+            if (!hasNextGraph()) {
+                throw new NoSuchElementException();
+            }
+            ByteBuffer lengthBuffer = ByteBuffer.allocate(8);
+            readFully(channel, lengthBuffer, position);
+            lengthBuffer.flip();
+            long sectionBytes = lengthBuffer.getLong();
+            if (sectionBytes < 8 || sectionBytes > Integer.MAX_VALUE
+                    || position + 8 + sectionBytes > channel.size()) {
+                throw new IOException("Corrupt binary graph file: invalid section length " + sectionBytes);
+            }
+
+            MappedByteBuffer section = channel.map(FileChannel.MapMode.READ_ONLY, position + 8, sectionBytes);
+            position += 8 + sectionBytes;
+            graphsRead++;
+            return readGraph(section);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static Graph readGraph(ByteBuffer section) throws IOException {
+        MSTEvents.GraphParseEvent parse = new MSTEvents.GraphParseEvent();
+        parse.begin();
+        try {
+            int n = section.getInt();
+            int m = section.getInt();
+            if (n < 0 || m < 0) {
+                throw new IOException("Corrupt binary graph file: negative vertex or edge count");
+            }
+            // Counts and lengths are checked against the section before anything is allocated
+            if (4L * n > section.remaining()) {
+                throw new IOException("Corrupt binary graph file: vertex count " + n + " exceeds section");
+            }
+
+            List<String> vertices = new ArrayList<>(n);
+            byte[] nameBytes = new byte[64];
+            for (int i = 0; i < n; i++) {
+                int length = section.getInt();
+                if (length < 0 || length > section.remaining()) {
+                    throw new IOException("Corrupt binary graph file: invalid name length " + length);
+                }
+                if (length > nameBytes.length) nameBytes = new byte[Math.max(length, nameBytes.length * 2)];
+                section.get(nameBytes, 0, length);
+                vertices.add(new String(nameBytes, 0, length, StandardCharsets.UTF_8));
+            }
+
+            if (section.remaining() != (long) m * EDGE_RECORD_BYTES) {
+                throw new IOException("Corrupt binary graph file: edge table size mismatch");
+            }
+            IntBuffer records = section.asIntBuffer();
+            parse.end();
+            if (parse.shouldCommit()) {
+                parse.format = "binary";
+                parse.vertexCount = n;
+                parse.edgeCount = m;
+                parse.commit();
+            }
+
+            MSTEvents.GraphValidateEvent validate = new MSTEvents.GraphValidateEvent();
+            validate.begin();
+            // Files are written from validated graphs, so only the ids are checked.
+            // Records go from the mapped section straight into the builder
+            Graph.Builder builder = new Graph.Builder(vertices).trusted().expectedEdges(m);
+            for (int e = 0; e < m; e++) {
+                int from = records.get();
+                int to = records.get();
+                int weight = records.get();
+                if (from < 0 || from >= n || to < 0 || to >= n) {
+                    throw new IOException("Corrupt binary graph file: vertex id out of range");
+                }
+                builder.addEdge(from, to, weight);
+            }
+            Graph graph = builder.build();
+            validate.end();
+            if (validate.shouldCommit()) {
+                validate.format = "binary";
+                validate.vertexCount = n;
+                validate.edgeCount = m;
+                validate.commit();
+            }
+            return graph;
+        } catch (java.nio.BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupt binary graph file: truncated section", e);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Corrupt binary graph file: unexpected end of file");
+            }
+        }
+    }
+}
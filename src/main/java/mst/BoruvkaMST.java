@@ -0,0 +1,195 @@
+package mst;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Parallel Borůvka on a fork-join pool.
+// Each round every component picks its cheapest outgoing edge (edge ranges are
+// scanned in parallel), the picked edges are contracted with a UnionFind, vertex
+// labels are refreshed in parallel and edges inside one component are dropped.
+// Ties are broken by edge id, so the picked edges never close a cycle and the
+// result has the same total cost as Prim and Kruskal.
+public class BoruvkaMST implements MSTAlgorithm {
+    // Below this many items a parallel step runs on the calling thread
+    private static final int GRAIN = 4096;
+    private static final long NO_EDGE = Long.MAX_VALUE;
+
+    private final ForkJoinPool pool;
+    private MSTListener listener = MSTListener.NOOP;
+
+    public BoruvkaMST() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public BoruvkaMST(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    @Override
+    public void setListener(MSTListener listener) {
+        this.listener = MSTListener.requireNonNull(listener);
+    }
+
+    @Override
+    public String getName() {
+        return "Boruvka";
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph) {
+        graph.requireOnHeap("Boruvka");
+        long startTime = System.nanoTime();
+
+        int n = graph.getVertexCount();
+        CSRGraph csr = graph.getCSR();
+        int m = csr.edgeCount;
+        int[] sources = csr.edgeSources;
+        int[] destinations = csr.edgeTargets;
+        int[] weights = csr.edgeWeights;
+        MSTListener listener = this.listener;
+        listener.runStart("Boruvka", n, m);
+
+        // component[v] is the representative vertex of v's current component
+        int[] component = new int[n];
+        for (int v = 0; v < n; v++) component[v] = v;
+
+        int[] roots = component.clone();
+        int rootCount = n;
+
+        int[] active = new int[m];
+        for (int e = 0; e < m; e++) active[e] = e;
+        int activeCount = m;
+
+        AtomicLongArray cheapest = new AtomicLongArray(n);
+        for (int v = 0; v < n; v++) cheapest.set(v, NO_EDGE);
+
+        UnionFind uf = new UnionFind(n);
+        int[] relabel = new int[n];
+        int[] mstEdgeIds = new int[Math.max(n - 1, 0)];
+        int mstSize = 0;
+        int totalCost = 0;
+        long operationsCount = 0;
+
+        while (activeCount > 0 && rootCount > 1) {
+            operationsCount += activeCount;
+
+            // Step 1: cheapest outgoing edge per component, parallel over edge ranges
+            final int[] edges = active;
+            listener.phaseStart(MSTPhase.RELAXATION);
+            ParallelLoops.forRange(pool, 0, activeCount, GRAIN, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    int e = edges[i];
+                    int cu = component[sources[e]];
+                    int cv = component[destinations[e]];
+                    if (cu == cv) continue;
+                    long key = ((long) weights[e] << 32) | e;
+                    offerMin(cheapest, cu, key);
+                    offerMin(cheapest, cv, key);
+                }
+            });
+            listener.phaseEnd(MSTPhase.RELAXATION, activeCount);
+
+            // Step 2: contract along the picked edges (O(components), sequential)
+            listener.phaseStart(MSTPhase.UNION_FIND);
+            int added = 0;
+            for (int i = 0; i < rootCount; i++) {
+                int root = roots[i];
+                long key = cheapest.get(root);
+                if (key == NO_EDGE) continue;
+                cheapest.set(root, NO_EDGE);
+
+                int e = (int) key;
+                if (uf.union(sources[e], destinations[e])) {
+                    mstEdgeIds[mstSize++] = e;
+                    totalCost += weights[e];
+                    added++;
+                }
+            }
+            operationsCount += rootCount + added;
+            if (added == 0) {
+                listener.phaseEnd(MSTPhase.UNION_FIND, rootCount);
+                break;
+            }
+
+            int newRootCount = 0;
+            for (int i = 0; i < rootCount; i++) {
+                int root = roots[i];
+                int label = uf.find(root);
+                relabel[root] = label;
+                if (label == root) roots[newRootCount++] = root;
+            }
+            listener.phaseEnd(MSTPhase.UNION_FIND, rootCount);
+            rootCount = newRootCount;
+
+            // Step 3: refresh vertex labels, parallel over vertex ranges
+            listener.phaseStart(MSTPhase.CONTRACTION);
+            int edgesBefore = activeCount;
+            ParallelLoops.forRange(pool, 0, n, GRAIN, (from, to) -> {
+                for (int v = from; v < to; v++) {
+                    component[v] = relabel[component[v]];
+                }
+            });
+            operationsCount += n;
+
+            // Step 4: drop edges that now lie inside one component
+            activeCount = compact(active, activeCount, sources, destinations, component);
+            listener.phaseEnd(MSTPhase.CONTRACTION, n + (long) edgesBefore);
+        }
+
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+
+        mstEdgeIds = Arrays.copyOf(mstEdgeIds, mstSize);
+        MSTResult result = new MSTResult("Boruvka", graph.edgesById(mstEdgeIds), mstEdgeIds, totalCost,
+                executionTimeMs, (int) Math.min(operationsCount, Integer.MAX_VALUE));
+        // A forest: one tree per connected component
+        result.setComponents(uf.getComponentCount(), null);
+        listener.runEnd(result);
+        return result;
+    }
+
+    private static void offerMin(AtomicLongArray cheapest, int index, long key) {
+        long current = cheapest.get(index);
+        while (key < current && !cheapest.compareAndSet(index, current, key)) {
+            current = cheapest.get(index);
+        }
+    }
+
+    // Stable parallel filter: count survivors per chunk, prefix-sum, then scatter
+    private int compact(int[] active, int count, int[] sources, int[] destinations, int[] component) {
+        int chunks = Math.max(1, Math.min((count + GRAIN - 1) / GRAIN, pool.getParallelism() * 4));
+        int chunkSize = (count + chunks - 1) / chunks;
+        int[] survivors = new int[chunks + 1];
+
+        ParallelLoops.forRange(pool, 0, chunks, 1, (fromChunk, toChunk) -> {
+            for (int c = fromChunk; c < toChunk; c++) {
+                int end = Math.min(count, (c + 1) * chunkSize);
+                int kept = 0;
+                for (int i = c * chunkSize; i < end; i++) {
+                    int e = active[i];
+                    if (component[sources[e]] != component[destinations[e]]) kept++;
+                }
+                survivors[c + 1] = kept;
+            }
+        });
+        for (int c = 0; c < chunks; c++) survivors[c + 1] += survivors[c];
+
+        int[] compacted = new int[survivors[chunks]];
+        ParallelLoops.forRange(pool, 0, chunks, 1, (fromChunk, toChunk) -> {
+            for (int c = fromChunk; c < toChunk; c++) {
+                int end = Math.min(count, (c + 1) * chunkSize);
+                int out = survivors[c];
+                for (int i = c * chunkSize; i < end; i++) {
+                    int e = active[i];
+                    if (component[sources[e]] != component[destinations[e]]) compacted[out++] = e;
+                }
+            }
+        });
+        System.arraycopy(compacted, 0, active, 0, compacted.length);
+        return compacted.length;
+    }
+}
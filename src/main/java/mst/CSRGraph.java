@@ -0,0 +1,98 @@
+package mst;
+
+import java.util.List;
+import java.util.Map;
+
+// Compressed-sparse-row view of a Graph. Vertices are the int positions in
+// Graph.getVertices(), edges are the int positions in Graph.getEdges().
+// Every undirected edge appears twice in the adjacency arrays (once per endpoint),
+// so offsets/targets/weights/edgeIds have 2m entries.
+public class CSRGraph {
+    public final int vertexCount;
+    public final int edgeCount;
+
+    // Adjacency of vertex v is the slice [offsets[v], offsets[v + 1])
+    public final int[] offsets;
+    public final int[] targets;
+    public final int[] weights;
+    public final int[] edgeIds;
+
+    // Endpoint columns indexed by edge id
+    public final int[] edgeSources;
+    public final int[] edgeTargets;
+    public final int[] edgeWeights;
+
+    CSRGraph(int vertexCount, int[] edgeSources, int[] edgeTargets, int[] edgeWeights) {
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeSources.length;
+        this.edgeSources = edgeSources;
+        this.edgeTargets = edgeTargets;
+        this.edgeWeights = edgeWeights;
+
+        // Counting pass for degrees, then prefix sums for row starts
+        offsets = new int[vertexCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[edgeSources[e] + 1]++;
+            offsets[edgeTargets[e] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int slots = offsets[vertexCount];
+        targets = new int[slots];
+        weights = new int[slots];
+        edgeIds = new int[slots];
+
+        // Fill pass keeps each row in input edge order
+        int[] cursor = new int[vertexCount];
+        System.arraycopy(offsets, 0, cursor, 0, vertexCount);
+        for (int e = 0; e < edgeCount; e++) {
+            int u = edgeSources[e];
+            int v = edgeTargets[e];
+            int w = edgeWeights[e];
+
+            int slot = cursor[u]++;
+            targets[slot] = v;
+            weights[slot] = w;
+            edgeIds[slot] = e;
+
+            slot = cursor[v]++;
+            targets[slot] = u;
+            weights[slot] = w;
+            edgeIds[slot] = e;
+        }
+    }
+
+    static CSRGraph fromEdges(int vertexCount, Map<String, Integer> vertexIndex, List<Graph.Edge> edges) {
+        int m = edges.size();
+        int[] sources = new int[m];
+        int[] destinations = new int[m];
+        int[] edgeWeights = new int[m];
+        for (int e = 0; e < m; e++) {
+            Graph.Edge edge = edges.get(e);
+            sources[e] = vertexIndex.get(edge.from);
+            destinations[e] = vertexIndex.get(edge.to);
+            edgeWeights[e] = edge.weight;
+        }
+        return new CSRGraph(vertexCount, sources, destinations, edgeWeights);
+    }
+
+    // Copies the store onto the heap; engines that need adjacency pay O(m) here
+    static CSRGraph fromStore(OffHeapEdgeStore store) {
+        int m = store.size();
+        int[] sources = new int[m];
+        int[] destinations = new int[m];
+        int[] edgeWeights = new int[m];
+        for (int e = 0; e < m; e++) {
+            sources[e] = store.from(e);
+            destinations[e] = store.to(e);
+            edgeWeights[e] = store.weight(e);
+        }
+        return new CSRGraph(store.getVertexCount(), sources, destinations, edgeWeights);
+    }
+
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+}
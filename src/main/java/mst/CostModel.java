@@ -0,0 +1,245 @@
+package mst;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+// Predicts the running time of each MST engine from n, m, weight range and core count.
+// Every engine has a work formula (abstract steps, see work()) and one coefficient,
+// nanoseconds per step. The built-in coefficients come from one desktop machine; calibrate()
+// fits them to this machine by timing each engine on a few generated graphs, and
+// the result can be stored in a Properties file so calibration runs only once.
+public class CostModel {
+    public static final List<String> ENGINES =
+            Collections.unmodifiableList(Arrays.asList("Prim", "PrimDense", "Kruskal", "FilterKruskal", "Boruvka"));
+
+    // (vertices, density, weightRange) of the calibration graphs: dense/narrow,
+    // medium/wide and sparse, so each work formula is exercised away from its sweet spot
+    private static final double[][] CALIBRATION_GRAPHS = {
+            {600, 1.0, 100},
+            {1500, 0.1, 1_000_000},
+            {4000, 0.005, 1000}
+    };
+    private static final int WARMUP_RUNS = 10;
+    private static final int MEASURED_RUNS = 5;
+
+    // Mirrors EdgeSorter's choice between counting sort and comparison sort
+    private static final long MAX_COUNTING_BUCKETS = 1 << 20;
+
+    private final Map<String, Double> nanosPerStep;
+    private final int cores;
+
+    public CostModel(Map<String, Double> nanosPerStep, int cores) {
+        for (String engine : ENGINES) {
+            Double coefficient = nanosPerStep.get(engine);
+            if (coefficient == null || !(coefficient > 0)) {
+                throw new IllegalArgumentException("Missing or invalid coefficient for " + engine);
+            }
+        }
+        if (cores < 1) {
+            throw new IllegalArgumentException("Core count must be at least 1: " + cores);
+        }
+        this.nanosPerStep = Collections.unmodifiableMap(new HashMap<>(nanosPerStep));
+        this.cores = cores;
+    }
+
+    public static CostModel defaults() {
+        Map<String, Double> coefficients = new HashMap<>();
+        coefficients.put("Prim", 5.5);
+        coefficients.put("PrimDense", 1.0);
+        coefficients.put("Kruskal", 5.0);
+        coefficients.put("FilterKruskal", 5.5);
+        coefficients.put("Boruvka", 6.0);
+        return new CostModel(coefficients, Runtime.getRuntime().availableProcessors());
+    }
+
+    public int getCores() { return cores; }
+
+    public double getNanosPerStep(String engine) {
+        Double coefficient = nanosPerStep.get(engine);
+        if (coefficient == null) {
+            throw new IllegalArgumentException("Unknown engine: " + engine);
+        }
+        return coefficient;
+    }
+
+    public double estimateTimeMs(String engine, GraphProfile profile) {
+        return getNanosPerStep(engine) * work(engine, profile, cores) / 1_000_000.0;
+    }
+
+    // Abstract step counts; only their shape matters, the coefficient absorbs the scale
+    static double work(String engine, GraphProfile profile, int cores) {
+        double n = Math.max(profile.vertexCount, 1);
+        double m = profile.edgeCount;
+        double logN = log2(Math.max(n, 2));
+        double averageDegree = Math.max(m / n, 1);
+
+        switch (engine) {
+            case "Prim":
+                // Every slot is scanned; decreaseKeys are about n ln(m/n) for random weights
+                return 2 * m + n * logN * (1 + Math.log(averageDegree));
+            case "PrimDense":
+                return n * n + 2 * m;
+            case "Kruskal":
+                return sortWork(profile) + m;
+            case "FilterKruskal":
+                // Parallel partitioning over all edges, then sorting of roughly n log(m/n) survivors
+                return m * (1 + 2.0 / cores) + n * logN * log2(Math.max(averageDegree, 2));
+            case "Boruvka":
+                // At most log n rounds over shrinking edge sets, scanned in parallel
+                return (2 * m / cores) * Math.min(logN, 4) + n * logN;
+            default:
+                throw new IllegalArgumentException("Unknown engine: " + engine);
+        }
+    }
+
+    private static double sortWork(GraphProfile profile) {
+        double m = profile.edgeCount;
+        long buckets = profile.weightRange;
+        if (buckets <= MAX_COUNTING_BUCKETS && buckets <= 2 * profile.edgeCount) {
+            return m + buckets;
+        }
+        return m * log2(Math.max(m, 2));
+    }
+
+    private static double log2(double x) {
+        return Math.log(x) / Math.log(2);
+    }
+
+    // Times every engine on the calibration graphs and sets each coefficient to the
+    // geometric mean of measured time / work, so small and large graphs count equally
+    public static CostModel calibrate() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<MSTAlgorithm> engines = MSTSolver.defaultEngines();
+
+        List<Graph> graphs = new ArrayList<>();
+        long seed = 1;
+        for (double[] spec : CALIBRATION_GRAPHS) {
+            Graph graph = GraphGenerator.generate((int) spec[0], spec[1], (int) spec[2], seed++);
+            graph.getCSR();
+            graphs.add(graph);
+        }
+
+        // Warm every engine on every graph first so no measurement sees interpreted code
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            for (Graph graph : graphs) {
+                for (MSTAlgorithm engine : engines) {
+                    engine.findMST(graph);
+                }
+            }
+        }
+
+        double[] logRatioSums = new double[engines.size()];
+        for (Graph graph : graphs) {
+            GraphProfile profile = GraphProfile.of(graph);
+            for (int i = 0; i < engines.size(); i++) {
+                MSTAlgorithm engine = engines.get(i);
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < MEASURED_RUNS; run++) {
+                    long start = System.nanoTime();
+                    engine.findMST(graph);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                logRatioSums[i] += Math.log(Math.max(best, 1) / work(engine.getName(), profile, cores));
+            }
+        }
+
+        Map<String, Double> coefficients = new HashMap<>();
+        for (int i = 0; i < engines.size(); i++) {
+            coefficients.put(engines.get(i).getName(), Math.exp(logRatioSums[i] / graphs.size()));
+        }
+        return new CostModel(coefficients, cores);
+    }
+
+    public static CostModel load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(in);
+        }
+        try {
+            Map<String, Double> coefficients = new HashMap<>();
+            for (String engine : ENGINES) {
+                String value = properties.getProperty("nanosPerStep." + engine);
+                if (value == null) {
+                    throw new IOException("Cost model " + path + " has no coefficient for " + engine);
+                }
+                coefficients.put(engine, Double.parseDouble(value));
+            }
+            return new CostModel(coefficients, Integer.parseInt(properties.getProperty("cores", "0")));
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid number in cost model " + path + ": " + e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid cost model " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    public void store(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        Properties properties = new Properties();
+        properties.setProperty("cores", Integer.toString(cores));
+        for (String engine : ENGINES) {
+            properties.setProperty("nanosPerStep." + engine, Double.toString(nanosPerStep.get(engine)));
+        }
+        try (OutputStream out = Files.newOutputStream(path)) {
+            properties.store(out, "MST engine cost model (ns per abstract step)");
+        }
+    }
+
+    // Loads a stored calibration, recalibrating (and overwriting the file) when it
+    // is missing, unreadable or was measured with a different number of cores
+    public static CostModel loadOrCalibrate(Path path) throws IOException {
+        if (Files.exists(path)) {
+            try {
+                CostModel stored = load(path);
+                if (stored.cores == Runtime.getRuntime().availableProcessors()) {
+                    return stored;
+                }
+            } catch (IOException e) {
+                System.err.println("⚠️ Ignoring cost model " + path + ": " + e.getMessage());
+            }
+        }
+        CostModel calibrated = calibrate();
+        calibrated.store(path);
+        return calibrated;
+    }
+
+    // The graph features the model looks at
+    public static class GraphProfile {
+        public final int vertexCount;
+        public final int edgeCount;
+        // max - min + 1 over the edge weights (0 for an edgeless graph)
+        public final long weightRange;
+
+        public GraphProfile(int vertexCount, int edgeCount, long weightRange) {
+            this.vertexCount = vertexCount;
+            this.edgeCount = edgeCount;
+            this.weightRange = weightRange;
+        }
+
+        public static GraphProfile of(Graph graph) {
+            int m = graph.getEdgeCount();
+            OffHeapEdgeStore store = graph.getEdgeStore();
+            int[] weights = store == null ? graph.getCSR().edgeWeights : null;
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int e = 0; e < m; e++) {
+                int w = weights != null ? weights[e] : store.weight(e);
+                if (w < min) min = w;
+                if (w > max) max = w;
+            }
+            long range = m == 0 ? 0 : (long) max - min + 1;
+            return new GraphProfile(graph.getVertexCount(), m, range);
+        }
+
+        // m / (n(n-1)/2)
+        public double density() {
+            if (vertexCount < 2) return 0;
+            return edgeCount / (vertexCount * (vertexCount - 1) / 2.0);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package mst;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+// Writes the per-graph summary CSV, one row per graph as results arrive
+public class CsvResultSink implements ResultSink {
+    private final String outputFile;
+    private List<MSTAlgorithm> algorithms;
+    private Writer writer;
+
+    public CsvResultSink(String outputFile) {
+        this.outputFile = outputFile;
+    }
+
+    @Override
+    public void begin(List<MSTAlgorithm> algorithms) throws IOException {
+        File parentDir = new File(outputFile).getAbsoluteFile().getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+        this.algorithms = algorithms;
+        writer = new FileWriter(outputFile);
+        writeRow(csvHeader(algorithms));
+    }
+
+    @Override
+    public void accept(GraphRunResult run) throws IOException {
+        MSTEvents.ResultWriteEvent event = new MSTEvents.ResultWriteEvent();
+        event.begin();
+        List<MSTResult> results = run.getResults();
+        List<String> row = new ArrayList<>();
+        row.add(String.valueOf(run.getGraphId()));
+        row.add(String.valueOf(run.getVertexCount()));
+        row.add(String.valueOf(run.getEdgeCount()));
+        for (MSTResult result : results) row.add(String.valueOf(result.getTotalCost()));
+        for (MSTResult result : results) row.add(String.format("%.2f", result.getExecutionTimeMs()));
+        for (MSTResult result : results) row.add(String.valueOf(result.getOperationsCount()));
+        writeRow(row);
+        JsonResultSink.commitWriteEvent(event, "csv", run, algorithms);
+    }
+
+    @Override
+    public void end() throws IOException {
+        close();
+        System.out.println("✓ CSV summary saved to: " + outputFile);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    // Metric-major column order keeps the original Prim/Kruskal layout
+    private static List<String> csvHeader(List<MSTAlgorithm> algorithms) {
+        List<String> header = new ArrayList<>(Arrays.asList("GraphId", "Vertices", "Edges"));
+        for (MSTAlgorithm algorithm : algorithms) header.add(algorithm.getName() + "Cost");
+        for (MSTAlgorithm algorithm : algorithms) header.add(algorithm.getName() + "Time(ms)");
+        for (MSTAlgorithm algorithm : algorithms) header.add(algorithm.getName() + "Operations");
+        return header;
+    }
+
+    private void writeRow(List<String> row) throws IOException {
+        writer.write(String.join(",", row) + "\n");
+    }
+}
@@ -0,0 +1,598 @@
+package mst;
+
+import java.util.*;
+
+// Minimum spanning forest maintained under edge insertions, deletions and
+// weight changes, seeded from an MSTResult instead of recomputing per update.
+//
+// The forest is a link-cut tree (Sleator-Tarjan) in which every tree edge is its
+// own node between its two endpoints, so "heaviest edge on the u-v path" is an
+// O(log n) amortized path aggregate:
+//   insert        connect two trees, or swap out the path maximum if it is heavier
+//   decrease      tree edge: update in place; non-tree edge: same as insert
+//   delete        cut, then link the cheapest non-tree edge that reconnects the halves
+//   increase      cut, then take a reconnecting non-tree edge only if it is cheaper
+// Tree and non-tree edges are also kept in per-vertex incidence lists. After a
+// cut, both halves are walked breadth-first in lockstep over the tree edges until
+// one is exhausted, so the replacement search only visits the smaller half and
+// the non-tree edges incident to it: every such edge that leaves the half crosses
+// the cut, with no tree query per candidate. A delete costs O(log n) plus the
+// size of the smaller half and its incident edges, not the whole non-tree set.
+//
+// Edge ids are positions in the seed graph's edge list; inserted edges get the
+// next free ids. Ids of deleted edges are not reused. The vertex set is fixed.
+// Ties are broken by edge id, like the static engines.
+public class DynamicMST {
+    private static final int NONE = -1;
+    // Vertex nodes carry no weight, so they never win a path-maximum query
+    private static final long VERTEX_KEY = Long.MIN_VALUE;
+
+    private final List<String> vertices;
+    private final Graph graph;
+    private final int n;
+
+    // Edge table, indexed by edge id
+    private int edgeCount;
+    private int[] edgeFrom;
+    private int[] edgeTo;
+    private int[] edgeWeight;
+    private byte[] edgeState;
+    private static final byte DELETED = 0;
+    private static final byte TREE = 1;
+    private static final byte NON_TREE = 2;
+
+    private final Incidence treeIncidence;
+    private final Incidence nonTreeIncidence;
+    private int treeEdgeCount;
+    private long totalCost;
+
+    // Link-cut tree; node v < n is vertex v, node n + e is edge e
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private boolean[] reversed;
+    private long[] key;
+    private int[] maxNode;
+    private int[] splayStack;
+
+    // Lockstep search over the two halves of a cut (see smallerSide)
+    private final int[] queueA;
+    private final int[] queueB;
+    private final int[] mark;
+    private int epoch;
+    private int[] sideQueue;
+
+    public DynamicMST(Graph graph) {
+        this(graph, new KruskalMST().findMST(graph));
+    }
+
+    // The seed result must come from this graph and carry edge ids (all built-in
+    // engines record them). Graph edges missing from the seed are added as if
+    // inserted, so a spanning tree of only one component is completed to a forest.
+    public DynamicMST(Graph graph, MSTResult seed) {
+        if (graph == null || seed == null) {
+            throw new IllegalArgumentException("Graph and seed result cannot be null");
+        }
+        int[] seedEdgeIds = seed.getMstEdgeIds();
+        if (seedEdgeIds == null) {
+            throw new IllegalArgumentException("Seed result from " + seed.getAlgorithm() + " has no edge ids");
+        }
+
+        this.graph = graph;
+        this.vertices = graph.getVertices();
+        this.n = vertices.size();
+
+        CSRGraph csr = graph.getCSR();
+        int capacity = Math.max(16, csr.edgeCount + csr.edgeCount / 4);
+        edgeFrom = new int[capacity];
+        edgeTo = new int[capacity];
+        edgeWeight = new int[capacity];
+        edgeState = new byte[capacity];
+        initNodes(n + capacity);
+        treeIncidence = new Incidence(n, capacity);
+        nonTreeIncidence = new Incidence(n, capacity);
+        queueA = new int[n];
+        queueB = new int[n];
+        mark = new int[n];
+
+        edgeCount = csr.edgeCount;
+        System.arraycopy(csr.edgeSources, 0, edgeFrom, 0, edgeCount);
+        System.arraycopy(csr.edgeTargets, 0, edgeTo, 0, edgeCount);
+        System.arraycopy(csr.edgeWeights, 0, edgeWeight, 0, edgeCount);
+
+        for (int e : seedEdgeIds) {
+            if (e < 0 || e >= edgeCount || edgeState[e] != DELETED) {
+                throw new IllegalArgumentException("Seed edge id out of range or repeated: " + e);
+            }
+            if (connected(edgeFrom[e], edgeTo[e])) {
+                throw new IllegalArgumentException("Seed edges contain a cycle at edge " + e);
+            }
+            linkEdge(e);
+        }
+        for (int e : EdgeSorter.sortedEdgeIds(Arrays.copyOf(edgeWeight, edgeCount))) {
+            if (edgeState[e] == DELETED) {
+                place(e);
+            }
+        }
+    }
+
+    // Adds an edge and returns its id
+    public int insertEdge(String from, String to, int weight) {
+        int u = vertexId(from);
+        int v = vertexId(to);
+        int e = edgeCount;
+        ensureEdgeCapacity(e + 1);
+        edgeFrom[e] = u;
+        edgeTo[e] = v;
+        edgeWeight[e] = weight;
+        edgeState[e] = DELETED;
+        edgeCount++;
+        place(e);
+        return e;
+    }
+
+    public void deleteEdge(int edgeId) {
+        checkLive(edgeId);
+        if (edgeState[edgeId] == NON_TREE) {
+            nonTreeIncidence.remove(edgeId);
+            edgeState[edgeId] = DELETED;
+            return;
+        }
+        cutEdge(edgeId);
+        edgeState[edgeId] = DELETED;
+        int replacement = cheapestReconnecting(edgeFrom[edgeId], edgeTo[edgeId], Long.MAX_VALUE);
+        if (replacement != NONE) {
+            nonTreeIncidence.remove(replacement);
+            linkEdge(replacement);
+        }
+    }
+
+    public void updateWeight(int edgeId, int weight) {
+        checkLive(edgeId);
+        int oldWeight = edgeWeight[edgeId];
+        if (edgeState[edgeId] == NON_TREE) {
+            // Re-enters like an insertion; it can only displace something if it got lighter
+            nonTreeIncidence.remove(edgeId);
+            edgeState[edgeId] = DELETED;
+            edgeWeight[edgeId] = weight;
+            place(edgeId);
+            return;
+        }
+
+        if (weight <= oldWeight) {
+            // A lighter tree edge stays in the tree; only the path aggregates change
+            int node = n + edgeId;
+            access(node);
+            splay(node);
+            edgeWeight[edgeId] = weight;
+            key[node] = edgeKey(edgeId);
+            pushUp(node);
+            totalCost += (long) weight - oldWeight;
+            return;
+        }
+
+        // Heavier tree edge: cut it and keep whichever of it and the best
+        // reconnecting non-tree edge is cheaper
+        cutEdge(edgeId);
+        edgeWeight[edgeId] = weight;
+        int replacement = cheapestReconnecting(edgeFrom[edgeId], edgeTo[edgeId], edgeKey(edgeId));
+        if (replacement == NONE) {
+            linkEdge(edgeId);
+        } else {
+            nonTreeIncidence.remove(replacement);
+            linkEdge(replacement);
+            edgeState[edgeId] = NON_TREE;
+            nonTreeIncidence.add(edgeId);
+        }
+    }
+
+    public long getTotalCost() { return totalCost; }
+    public int getTreeEdgeCount() { return treeEdgeCount; }
+    public int getVertexCount() { return n; }
+
+    // Number of trees in the forest (1 for a connected graph)
+    public int getComponentCount() { return n - treeEdgeCount; }
+
+    public boolean isTreeEdge(int edgeId) {
+        checkLive(edgeId);
+        return edgeState[edgeId] == TREE;
+    }
+
+    public boolean connected(String from, String to) {
+        return connected(vertexId(from), vertexId(to));
+    }
+
+    public Graph.Edge getEdge(int edgeId) {
+        checkLive(edgeId);
+        return new Graph.Edge(vertices.get(edgeFrom[edgeId]), vertices.get(edgeTo[edgeId]), edgeWeight[edgeId]);
+    }
+
+    // Ids of the current tree edges in ascending order (O(m) scan)
+    public int[] getTreeEdgeIds() {
+        int[] ids = new int[treeEdgeCount];
+        int count = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            if (edgeState[e] == TREE) ids[count++] = e;
+        }
+        return ids;
+    }
+
+    public List<Graph.Edge> getTreeEdges() {
+        int[] ids = getTreeEdgeIds();
+        List<Graph.Edge> edges = new ArrayList<>(ids.length);
+        for (int e : ids) {
+            // Seed edges keep their original objects while unchanged
+            if (e < graph.getEdgeCount() && graph.getEdges().get(e).weight == edgeWeight[e]) {
+                edges.add(graph.getEdges().get(e));
+            } else {
+                edges.add(new Graph.Edge(vertices.get(edgeFrom[e]), vertices.get(edgeTo[e]), edgeWeight[e]));
+            }
+        }
+        return edges;
+    }
+
+    // Snapshot of the current forest. Edge ids refer to this structure, which
+    // matches the seed graph's ids as long as only seed edges were touched.
+    public MSTResult toResult() {
+        int[] ids = getTreeEdgeIds();
+        MSTResult result = new MSTResult("Dynamic", getTreeEdges(), ids, Math.toIntExact(totalCost), 0, 0);
+        result.setComponents(getComponentCount(), null);
+        return result;
+    }
+
+    // Puts a detached live edge into the tree or the non-tree set
+    private void place(int e) {
+        int u = edgeFrom[e];
+        int v = edgeTo[e];
+        if (u != v) {
+            if (!connected(u, v)) {
+                linkEdge(e);
+                return;
+            }
+            int heaviest = pathMax(u, v) - n;
+            if (edgeKey(heaviest) > edgeKey(e)) {
+                cutEdge(heaviest);
+                edgeState[heaviest] = NON_TREE;
+                nonTreeIncidence.add(heaviest);
+                linkEdge(e);
+                return;
+            }
+        }
+        edgeState[e] = NON_TREE;
+        nonTreeIncidence.add(e);
+    }
+
+    // Cheapest non-tree edge below limit that reconnects u's and v's trees after
+    // the tree edge between them was cut. Non-tree edges never join two trees, so
+    // an edge leaving the smaller half must end in the other one.
+    private int cheapestReconnecting(int u, int v, long limit) {
+        int sideSize = smallerSide(u, v);
+        int[] side = sideQueue;
+        int sideMark = mark[side[0]];
+        long best = limit;
+        int bestEdge = NONE;
+        for (int i = 0; i < sideSize; i++) {
+            int x = side[i];
+            int[] incident = nonTreeIncidence.lists[x];
+            for (int j = 0, count = nonTreeIncidence.sizes[x]; j < count; j++) {
+                int e = incident[j];
+                int other = edgeFrom[e] == x ? edgeTo[e] : edgeFrom[e];
+                if (mark[other] != sideMark && edgeKey(e) < best) {
+                    best = edgeKey(e);
+                    bestEdge = e;
+                }
+            }
+        }
+        return bestEdge;
+    }
+
+    // Breadth-first over tree edges from u and from v, one vertex each in turn,
+    // until one half is exhausted, which costs O(smaller half). Leaves that half's
+    // vertices in sideQueue and returns how many there are.
+    private int smallerSide(int u, int v) {
+        if (epoch > Integer.MAX_VALUE - 2) {
+            Arrays.fill(mark, 0);
+            epoch = 0;
+        }
+        int markA = ++epoch;
+        int markB = ++epoch;
+        queueA[0] = u;
+        mark[u] = markA;
+        queueB[0] = v;
+        mark[v] = markB;
+        int headA = 0;
+        int tailA = 1;
+        int headB = 0;
+        int tailB = 1;
+        while (true) {
+            if (headA == tailA) {
+                sideQueue = queueA;
+                return tailA;
+            }
+            if (headB == tailB) {
+                sideQueue = queueB;
+                return tailB;
+            }
+            tailA = expand(queueA[headA++], queueA, tailA, markA);
+            tailB = expand(queueB[headB++], queueB, tailB, markB);
+        }
+    }
+
+    private int expand(int x, int[] queue, int tail, int sideMark) {
+        int[] incident = treeIncidence.lists[x];
+        for (int j = 0, count = treeIncidence.sizes[x]; j < count; j++) {
+            int e = incident[j];
+            int other = edgeFrom[e] == x ? edgeTo[e] : edgeFrom[e];
+            if (mark[other] != sideMark) {
+                mark[other] = sideMark;
+                queue[tail++] = other;
+            }
+        }
+        return tail;
+    }
+
+    private void linkEdge(int e) {
+        int node = n + e;
+        left[node] = right[node] = parent[node] = NONE;
+        reversed[node] = false;
+        key[node] = edgeKey(e);
+        maxNode[node] = node;
+        link(edgeFrom[e], node);
+        link(node, edgeTo[e]);
+        treeIncidence.add(e);
+        edgeState[e] = TREE;
+        treeEdgeCount++;
+        totalCost += edgeWeight[e];
+    }
+
+    private void cutEdge(int e) {
+        int node = n + e;
+        cut(edgeFrom[e], node);
+        cut(node, edgeTo[e]);
+        treeIncidence.remove(e);
+        treeEdgeCount--;
+        totalCost -= edgeWeight[e];
+    }
+
+    // Same ordering as EdgeSorter: weight, then id
+    private long edgeKey(int e) {
+        return ((long) edgeWeight[e] << 32) | e;
+    }
+
+    private int vertexId(String vertex) {
+        int id = graph.indexOf(vertex);
+        if (id < 0) {
+            throw new IllegalArgumentException("Vertex '" + vertex + "' does not exist in graph vertices");
+        }
+        return id;
+    }
+
+    private void checkLive(int edgeId) {
+        if (edgeId < 0 || edgeId >= edgeCount || edgeState[edgeId] == DELETED) {
+            throw new IllegalArgumentException("No such edge: " + edgeId);
+        }
+    }
+
+    private void ensureEdgeCapacity(int required) {
+        if (required <= edgeFrom.length) return;
+        int capacity = Math.max(required, edgeFrom.length * 2);
+        edgeFrom = Arrays.copyOf(edgeFrom, capacity);
+        edgeTo = Arrays.copyOf(edgeTo, capacity);
+        edgeWeight = Arrays.copyOf(edgeWeight, capacity);
+        edgeState = Arrays.copyOf(edgeState, capacity);
+        treeIncidence.grow(capacity);
+        nonTreeIncidence.grow(capacity);
+
+        int oldNodes = left.length;
+        int nodes = n + capacity;
+        left = Arrays.copyOf(left, nodes);
+        right = Arrays.copyOf(right, nodes);
+        parent = Arrays.copyOf(parent, nodes);
+        reversed = Arrays.copyOf(reversed, nodes);
+        key = Arrays.copyOf(key, nodes);
+        maxNode = Arrays.copyOf(maxNode, nodes);
+        splayStack = new int[nodes];
+        for (int x = oldNodes; x < nodes; x++) {
+            left[x] = right[x] = parent[x] = NONE;
+            maxNode[x] = x;
+        }
+    }
+
+    // ---- link-cut tree ----
+
+    private void initNodes(int nodes) {
+        left = new int[nodes];
+        right = new int[nodes];
+        parent = new int[nodes];
+        reversed = new boolean[nodes];
+        key = new long[nodes];
+        maxNode = new int[nodes];
+        splayStack = new int[nodes];
+        Arrays.fill(left, NONE);
+        Arrays.fill(right, NONE);
+        Arrays.fill(parent, NONE);
+        for (int x = 0; x < nodes; x++) {
+            key[x] = VERTEX_KEY;
+            maxNode[x] = x;
+        }
+    }
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == NONE || (left[p] != x && right[p] != x);
+    }
+
+    private void pushUp(int x) {
+        int best = x;
+        int l = left[x];
+        int r = right[x];
+        if (l != NONE && key[maxNode[l]] > key[best]) best = maxNode[l];
+        if (r != NONE && key[maxNode[r]] > key[best]) best = maxNode[r];
+        maxNode[x] = best;
+    }
+
+    private void pushDown(int x) {
+        if (!reversed[x]) return;
+        int l = left[x];
+        left[x] = right[x];
+        right[x] = l;
+        if (left[x] != NONE) reversed[left[x]] ^= true;
+        if (right[x] != NONE) reversed[right[x]] ^= true;
+        reversed[x] = false;
+    }
+
+    private void rotate(int x) {
+        int p = parent[x];
+        int g = parent[p];
+        boolean pWasRoot = isSplayRoot(p);
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != NONE) parent[right[x]] = p;
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != NONE) parent[left[x]] = p;
+            left[x] = p;
+        }
+        parent[p] = x;
+        parent[x] = g;
+        if (!pWasRoot) {
+            if (left[g] == p) left[g] = x;
+            else right[g] = x;
+        }
+        pushUp(p);
+        pushUp(x);
+    }
+
+    private void splay(int x) {
+        // Push pending reversals down from the splay root first
+        int top = 0;
+        splayStack[top++] = x;
+        for (int y = x; !isSplayRoot(y); y = parent[y]) {
+            splayStack[top++] = parent[y];
+        }
+        while (top > 0) pushDown(splayStack[--top]);
+
+        while (!isSplayRoot(x)) {
+            int p = parent[x];
+            if (!isSplayRoot(p)) {
+                int g = parent[p];
+                boolean zigZig = (left[g] == p) == (left[p] == x);
+                rotate(zigZig ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    // Makes the root-to-x path preferred; x ends up at the root of its splay tree
+    private void access(int x) {
+        int last = NONE;
+        for (int y = x; y != NONE; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pushUp(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        reversed[x] ^= true;
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        int r = x;
+        while (true) {
+            pushDown(r);
+            if (left[r] == NONE) break;
+            r = left[r];
+        }
+        splay(r);
+        return r;
+    }
+
+    private boolean connected(int u, int v) {
+        return u == v || findRoot(u) == findRoot(v);
+    }
+
+    private void link(int x, int y) {
+        makeRoot(x);
+        parent[x] = y;
+    }
+
+    private void cut(int x, int y) {
+        makeRoot(x);
+        access(y);
+        // x is now y's left child with nothing between them
+        left[y] = NONE;
+        parent[x] = NONE;
+        pushUp(y);
+    }
+
+    // Node with the largest key on the u-v path (both must be connected)
+    private int pathMax(int u, int v) {
+        makeRoot(u);
+        access(v);
+        return maxNode[v];
+    }
+
+    // Edge ids incident to each vertex; removal swaps in the vertex's last entry,
+    // so add and remove are O(1). Self-loops never reconnect anything and are
+    // left out.
+    private final class Incidence {
+        final int[][] lists;
+        final int[] sizes;
+        // Position of edge e in its from-vertex's and to-vertex's list
+        int[] fromSlot;
+        int[] toSlot;
+
+        Incidence(int vertexCount, int edgeCapacity) {
+            lists = new int[vertexCount][];
+            Arrays.fill(lists, new int[0]);
+            sizes = new int[vertexCount];
+            fromSlot = new int[edgeCapacity];
+            toSlot = new int[edgeCapacity];
+        }
+
+        void grow(int edgeCapacity) {
+            fromSlot = Arrays.copyOf(fromSlot, edgeCapacity);
+            toSlot = Arrays.copyOf(toSlot, edgeCapacity);
+        }
+
+        void add(int e) {
+            if (edgeFrom[e] == edgeTo[e]) return;
+            fromSlot[e] = append(edgeFrom[e], e);
+            toSlot[e] = append(edgeTo[e], e);
+        }
+
+        void remove(int e) {
+            if (edgeFrom[e] == edgeTo[e]) return;
+            removeAt(edgeFrom[e], fromSlot[e]);
+            removeAt(edgeTo[e], toSlot[e]);
+        }
+
+        private int append(int vertex, int e) {
+            int size = sizes[vertex];
+            if (size == lists[vertex].length) {
+                lists[vertex] = Arrays.copyOf(lists[vertex], Math.max(4, size * 2));
+            }
+            lists[vertex][size] = e;
+            sizes[vertex] = size + 1;
+            return size;
+        }
+
+        private void removeAt(int vertex, int slot) {
+            int last = --sizes[vertex];
+            if (slot == last) return;
+            int moved = lists[vertex][last];
+            lists[vertex][slot] = moved;
+            if (edgeFrom[moved] == vertex) {
+                fromSlot[moved] = slot;
+            } else {
+                toSlot[moved] = slot;
+            }
+        }
+    }
+}
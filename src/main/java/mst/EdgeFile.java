@@ -0,0 +1,194 @@
+package mst;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Flat binary edge list for out-of-core processing (big-endian, like BinaryGraphFormat).
+//
+//   header:  int magic ("MSTE"), int version, int vertexCount, long edgeCount
+//   edge:    int id, int from, int to, int weight     16-byte records
+//
+// Vertices are plain ints; there is no name table. Readers and writers go
+// through one reusable buffer, so memory use does not depend on file size.
+public final class EdgeFile {
+    public static final int MAGIC = 0x4D535445;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 20;
+    public static final int RECORD_BYTES = 16;
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private EdgeFile() {}
+
+    // Edge ids are the positions in graph.getEdges(), as in MSTResult
+    public static void write(Graph graph, Path path) throws IOException {
+        OffHeapEdgeStore store = graph.getEdgeStore();
+        if (store != null) {
+            try (Writer writer = openWriter(path, store.getVertexCount())) {
+                for (int e = 0; e < store.size(); e++) {
+                    writer.write(e, store.from(e), store.to(e), store.weight(e));
+                }
+            }
+            return;
+        }
+        CSRGraph csr = graph.getCSR();
+        try (Writer writer = openWriter(path, csr.vertexCount)) {
+            for (int e = 0; e < csr.edgeCount; e++) {
+                writer.write(e, csr.edgeSources[e], csr.edgeTargets[e], csr.edgeWeights[e]);
+            }
+        }
+    }
+
+    public static Writer openWriter(Path path, int vertexCount) throws IOException {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Vertex count cannot be negative: " + vertexCount);
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        return new Writer(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING), vertexCount);
+    }
+
+    public static Reader openReader(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new Reader(channel, path);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // For the temporary edge files of the out-of-core engines
+    static void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // Temp files are best effort; the OS cleans the temp directory eventually
+        }
+    }
+
+    public static final class Writer implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        private final int vertexCount;
+        private long edgeCount;
+
+        private Writer(FileChannel channel, int vertexCount) throws IOException {
+            this.channel = channel;
+            this.vertexCount = vertexCount;
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(vertexCount).putLong(0); // count patched in close()
+        }
+
+        public void write(int id, int from, int to, int weight) throws IOException {
+            if (from < 0 || from >= vertexCount || to < 0 || to >= vertexCount) {
+                throw new IllegalArgumentException("Edge " + id + " has a vertex outside 0.." + (vertexCount - 1));
+            }
+            if (buffer.remaining() < RECORD_BYTES) flush();
+            buffer.putInt(id).putInt(from).putInt(to).putInt(weight);
+            edgeCount++;
+        }
+
+        public long getEdgeCount() { return edgeCount; }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+                ByteBuffer count = ByteBuffer.allocate(8).putLong(edgeCount);
+                count.flip();
+                channel.write(count, 12);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    public static final class Reader implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        private final int vertexCount;
+        private final long edgeCount;
+        private long remaining;
+
+        // Fields of the current record, valid after next() returned true
+        private int id;
+        private int from;
+        private int to;
+        private int weight;
+
+        private Reader(FileChannel channel, Path path) throws IOException {
+            this.channel = channel;
+            buffer.limit(HEADER_BYTES);
+            fill();
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException("Not an edge file: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported edge file version: " + version);
+            }
+            vertexCount = buffer.getInt();
+            edgeCount = buffer.getLong();
+            if (vertexCount < 0 || edgeCount < 0
+                    || channel.size() != HEADER_BYTES + edgeCount * RECORD_BYTES) {
+                throw new IOException("Corrupt edge file " + path + ": size does not match edge count " + edgeCount);
+            }
+            remaining = edgeCount;
+            buffer.clear().limit(0);
+        }
+
+        public int getVertexCount() { return vertexCount; }
+        public long getEdgeCount() { return edgeCount; }
+
+        public boolean next() throws IOException {
+            if (remaining == 0) return false;
+            if (buffer.remaining() < RECORD_BYTES) {
+                buffer.compact();
+                fill();
+                if (buffer.remaining() < RECORD_BYTES) {
+                    throw new IOException("Corrupt edge file: unexpected end of file");
+                }
+            }
+            id = buffer.getInt();
+            from = buffer.getInt();
+            to = buffer.getInt();
+            weight = buffer.getInt();
+            if (from < 0 || from >= vertexCount || to < 0 || to >= vertexCount) {
+                throw new IOException("Corrupt edge file: vertex id out of range in edge " + id);
+            }
+            remaining--;
+            return true;
+        }
+
+        public int id() { return id; }
+        public int from() { return from; }
+        public int to() { return to; }
+        public int weight() { return weight; }
+
+        // Reads until the buffer is full or the file ends, then flips it for reading
+        private void fill() throws IOException {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) break;
+            }
+            buffer.flip();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package mst;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+// Orders edge ids by weight without boxing or comparators.
+// Narrow weight ranges (the usual case for our inputs) use a stable counting sort;
+// wide ranges pack (weight, edgeId) into one long and sort the primitives.
+// Both strategies switch to a fork-join version once the input is large enough.
+// Ties come out in edge-id order whenever the input ids are ascending.
+public final class EdgeSorter {
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    // Counting sort is used while the bucket array stays this small...
+    private static final int MAX_COUNTING_BUCKETS = 1 << 20;
+    // ...and is not much larger than the number of edges being sorted
+    private static final int BUCKETS_PER_EDGE = 2;
+    private static final int CHUNK_GRAIN = 1 << 14;
+
+    private EdgeSorter() {}
+
+    // All edge ids 0..weights.length-1 sorted by weight, ties by id
+    public static int[] sortedEdgeIds(int[] weights) {
+        int[] edgeIds = new int[weights.length];
+        for (int e = 0; e < edgeIds.length; e++) edgeIds[e] = e;
+        sort(edgeIds, 0, edgeIds.length, weights);
+        return edgeIds;
+    }
+
+    // Sorts edgeIds[from, to) in place by weights[edgeId]
+    public static void sort(int[] edgeIds, int from, int to, int[] weights) {
+        int count = to - from;
+        if (count < 2) return;
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            int w = weights[edgeIds[i]];
+            if (w < min) min = w;
+            if (w > max) max = w;
+        }
+        if (min == max) return;
+
+        long buckets = (long) max - min + 1;
+        if (buckets <= MAX_COUNTING_BUCKETS && buckets <= (long) count * BUCKETS_PER_EDGE) {
+            countingSort(edgeIds, from, to, weights, min, (int) buckets);
+        } else {
+            packedSort(edgeIds, from, to, weights);
+        }
+    }
+
+    private static void packedSort(int[] edgeIds, int from, int to, int[] weights) {
+        int count = to - from;
+        long[] packed = new long[count];
+        for (int i = 0; i < count; i++) {
+            int e = edgeIds[from + i];
+            packed[i] = ((long) weights[e] << 32) | e;
+        }
+        if (count >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSort(packed);
+        } else {
+            Arrays.sort(packed);
+        }
+        for (int i = 0; i < count; i++) {
+            edgeIds[from + i] = (int) packed[i];
+        }
+    }
+
+    private static void countingSort(int[] edgeIds, int from, int to, int[] weights, int min, int buckets) {
+        int count = to - from;
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        // One histogram per chunk; the chunk count is capped so histograms stay small
+        int chunks = 1;
+        if (count >= PARALLEL_THRESHOLD) {
+            chunks = Math.min(pool.getParallelism() * 2, count / CHUNK_GRAIN);
+            chunks = Math.max(1, Math.min(chunks, MAX_COUNTING_BUCKETS / buckets));
+        }
+        int chunkSize = (count + chunks - 1) / chunks;
+        int[][] histograms = new int[chunks][buckets];
+
+        ParallelLoops.forRange(pool, 0, chunks, 1, (fromChunk, toChunk) -> {
+            for (int c = fromChunk; c < toChunk; c++) {
+                int[] histogram = histograms[c];
+                int end = Math.min(to, from + (c + 1) * chunkSize);
+                for (int i = from + c * chunkSize; i < end; i++) {
+                    histogram[weights[edgeIds[i]] - min]++;
+                }
+            }
+        });
+
+        // Bucket-major, chunk-minor prefix sums keep the sort stable
+        int offset = 0;
+        for (int b = 0; b < buckets; b++) {
+            for (int c = 0; c < chunks; c++) {
+                int bucketCount = histograms[c][b];
+                histograms[c][b] = offset;
+                offset += bucketCount;
+            }
+        }
+
+        int[] sorted = new int[count];
+        ParallelLoops.forRange(pool, 0, chunks, 1, (fromChunk, toChunk) -> {
+            for (int c = fromChunk; c < toChunk; c++) {
+                int[] cursor = histograms[c];
+                int end = Math.min(to, from + (c + 1) * chunkSize);
+                for (int i = from + c * chunkSize; i < end; i++) {
+                    int e = edgeIds[i];
+                    sorted[cursor[weights[e] - min]++] = e;
+                }
+            }
+        });
+        System.arraycopy(sorted, 0, edgeIds, from, count);
+    }
+}
@@ -0,0 +1,382 @@
+package mst;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+// Out-of-core Kruskal over an EdgeFile.
+//
+//   1. Run formation: read chunkEdges records at a time, sort each chunk by
+//      (weight, id) with EdgeSorter and write it out as a sorted run.
+//   2. Merging: if there are more runs than MAX_FAN_IN, merge groups of them
+//      into longer runs until the final merge fits in one pass.
+//   3. The final k-way merge feeds edges straight into a UnionFind and stops as
+//      soon as the forest is complete.
+//
+// Resident memory is one chunk during run formation, one read buffer per run
+// while merging, and the int arrays of the UnionFind and the result; the edge
+// list itself never has to fit in the heap. Temporary runs are deleted as soon
+// as they are merged. A single chunk is solved in memory without any runs.
+public class ExternalKruskalMST implements MSTAlgorithm {
+    // 2^21 records is about 60 MB of chunk arrays while sorting
+    public static final int DEFAULT_CHUNK_EDGES = 1 << 21;
+    static final int MAX_FAN_IN = 64;
+
+    private final int chunkEdges;
+    private final Path tempDirectory;
+    private MSTListener listener = MSTListener.NOOP;
+
+    public ExternalKruskalMST() {
+        this(DEFAULT_CHUNK_EDGES, null);
+    }
+
+    // tempDirectory == null uses the system temporary directory
+    public ExternalKruskalMST(int chunkEdges, Path tempDirectory) {
+        if (chunkEdges < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1 edge: " + chunkEdges);
+        }
+        this.chunkEdges = chunkEdges;
+        this.tempDirectory = tempDirectory;
+    }
+
+    @Override
+    public boolean supportsEdgeStore() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "ExternalKruskal";
+    }
+
+    @Override
+    public void setListener(MSTListener listener) {
+        this.listener = MSTListener.requireNonNull(listener);
+    }
+
+    // In-memory graphs are spilled to a temporary EdgeFile first; the spill is
+    // part of the reported time, since it is what the out-of-core path costs
+    @Override
+    public MSTResult findMST(Graph graph) {
+        long startTime = System.nanoTime();
+        listener.runStart("ExternalKruskal", graph.getVertexCount(), graph.getEdgeCount());
+        Path edgeFile = null;
+        try {
+            edgeFile = createTempFile("mst-edges");
+            EdgeFile.write(graph, edgeFile);
+            Result run;
+            try (EdgeFile.Reader reader = EdgeFile.openReader(edgeFile)) {
+                run = solve(reader, System.nanoTime());
+            }
+
+            double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            int[] mstEdgeIds = run.getMstEdgeIds();
+            MSTResult result = new MSTResult("ExternalKruskal", graph.edgesById(mstEdgeIds), mstEdgeIds,
+                    (int) run.getTotalCost(), executionTimeMs, (int) Math.min(run.getOperationsCount(), Integer.MAX_VALUE));
+            result.setComponents(run.getComponentCount(), null);
+            listener.runEnd(result);
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("External Kruskal failed: " + e.getMessage(), e);
+        } finally {
+            EdgeFile.deleteQuietly(edgeFile);
+        }
+    }
+
+    // A run of its own for the listener, which sees an MSTResult without Edge
+    // objects (an edge file has no vertex names); its phase stats are copied over
+    public Result solve(Path edgeFile) throws IOException {
+        long startTime = System.nanoTime();
+        try (EdgeFile.Reader reader = EdgeFile.openReader(edgeFile)) {
+            listener.runStart("ExternalKruskal", reader.getVertexCount(),
+                    (int) Math.min(reader.getEdgeCount(), Integer.MAX_VALUE));
+            Result run = solve(reader, startTime);
+            MSTResult summary = new MSTResult("ExternalKruskal", null, run.getMstEdgeIds(),
+                    (int) run.getTotalCost(), run.getExecutionTimeMs(), (int) Math.min(run.getOperationsCount(), Integer.MAX_VALUE));
+            summary.setComponents(run.getComponentCount(), null);
+            listener.runEnd(summary);
+            run.phaseStats = summary.getPhaseStats();
+            return run;
+        }
+    }
+
+    // The three phases, between the caller's runStart and runEnd
+    private Result solve(EdgeFile.Reader reader, long startTime) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        // Every temporary file created below, so a failure cannot leave any behind
+        List<Path> temporary = new ArrayList<>();
+        try {
+            int n = reader.getVertexCount();
+            Forest forest = new Forest(n);
+
+            // Phase 1: sorted runs
+            Chunk chunk = new Chunk((int) Math.min(chunkEdges, Math.max(1, reader.getEdgeCount())));
+            listener.phaseStart(MSTPhase.SORT);
+            while (chunk.fill(reader)) {
+                chunk.sort();
+                if (runs.isEmpty() && chunk.size == reader.getEdgeCount()) {
+                    // Everything fit in one chunk: no runs, no merge
+                    listener.phaseEnd(MSTPhase.SORT, chunk.size);
+                    listener.phaseStart(MSTPhase.UNION_FIND);
+                    for (int i = 0; i < chunk.size && !forest.complete(); i++) {
+                        int e = chunk.order[i];
+                        forest.offer(chunk.ids[e], chunk.from[e], chunk.to[e], chunk.weights[e]);
+                    }
+                    listener.phaseEnd(MSTPhase.UNION_FIND, forest.edgesScanned);
+                    return forest.toResult(startTime, 1, 0);
+                }
+                Path run = createTempFile("mst-run");
+                temporary.add(run);
+                chunk.writeRun(run, n);
+                runs.add(run);
+            }
+            listener.phaseEnd(MSTPhase.SORT, reader.getEdgeCount());
+            int initialRuns = runs.size();
+
+            // Phase 2: intermediate merges until one pass can merge all runs
+            listener.phaseStart(MSTPhase.MERGE);
+            int mergePasses = 0;
+            while (runs.size() > MAX_FAN_IN) {
+                List<Path> merged = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += MAX_FAN_IN) {
+                    List<Path> group = runs.subList(from, Math.min(runs.size(), from + MAX_FAN_IN));
+                    Path output = createTempFile("mst-merge");
+                    temporary.add(output);
+                    try (RunMerger merger = new RunMerger(group);
+                         EdgeFile.Writer writer = EdgeFile.openWriter(output, n)) {
+                        while (merger.next()) {
+                            writer.write(merger.id(), merger.from(), merger.to(), merger.weight());
+                        }
+                    }
+                    for (Path run : group) EdgeFile.deleteQuietly(run);
+                    merged.add(output);
+                }
+                runs = merged;
+                mergePasses++;
+            }
+            listener.phaseEnd(MSTPhase.MERGE, mergePasses);
+
+            // Phase 3: final merge straight into the union-find
+            listener.phaseStart(MSTPhase.UNION_FIND);
+            try (RunMerger merger = new RunMerger(runs)) {
+                while (!forest.complete() && merger.next()) {
+                    forest.offer(merger.id(), merger.from(), merger.to(), merger.weight());
+                }
+            }
+            listener.phaseEnd(MSTPhase.UNION_FIND, forest.edgesScanned);
+            return forest.toResult(startTime, initialRuns, mergePasses);
+        } finally {
+            for (Path file : temporary) EdgeFile.deleteQuietly(file);
+        }
+    }
+
+    private Path createTempFile(String prefix) throws IOException {
+        return tempDirectory == null
+                ? Files.createTempFile(prefix, ".edges")
+                : Files.createTempFile(Files.createDirectories(tempDirectory), prefix, ".edges");
+    }
+
+    // Outcome of solve(): MST edge ids (as stored in the edge file) and run statistics
+    public static class Result {
+        private final int[] mstEdgeIds;
+        private final long totalCost;
+        private final int componentCount;
+        private final long edgesScanned;
+        private final int runCount;
+        private final int mergePasses;
+        private final double executionTimeMs;
+        private Map<MSTPhase, PhaseStats> phaseStats = Collections.emptyMap();
+
+        Result(int[] mstEdgeIds, long totalCost, int componentCount, long edgesScanned,
+               int runCount, int mergePasses, double executionTimeMs) {
+            this.mstEdgeIds = mstEdgeIds;
+            this.totalCost = totalCost;
+            this.componentCount = componentCount;
+            this.edgesScanned = edgesScanned;
+            this.runCount = runCount;
+            this.mergePasses = mergePasses;
+            this.executionTimeMs = executionTimeMs;
+        }
+
+        public int[] getMstEdgeIds() { return mstEdgeIds; }
+        public long getTotalCost() { return totalCost; }
+        public int getComponentCount() { return componentCount; }
+        // Edges taken from the merge before the forest was complete
+        public long getEdgesScanned() { return edgesScanned; }
+        public int getRunCount() { return runCount; }
+        // Extra merge passes needed because there were more than MAX_FAN_IN runs
+        public int getMergePasses() { return mergePasses; }
+        public double getExecutionTimeMs() { return executionTimeMs; }
+        // Filled in by a PhaseStatsListener, as for MSTResult
+        public Map<MSTPhase, PhaseStats> getPhaseStats() { return phaseStats; }
+
+        // Same shape as KruskalMST: finds and unions per scanned edge
+        public long getOperationsCount() { return 2 * edgesScanned + mstEdgeIds.length; }
+    }
+
+    // The only per-vertex state: union-find plus the chosen edge ids
+    private static final class Forest {
+        final int n;
+        final UnionFind uf;
+        final int[] mstEdgeIds;
+        int mstSize;
+        long totalCost;
+        long edgesScanned;
+
+        Forest(int n) {
+            this.n = n;
+            this.uf = new UnionFind(n);
+            this.mstEdgeIds = new int[Math.max(n - 1, 0)];
+        }
+
+        boolean complete() {
+            return mstSize >= n - 1;
+        }
+
+        void offer(int id, int from, int to, int weight) {
+            edgesScanned++;
+            int root1 = uf.find(from);
+            int root2 = uf.find(to);
+            if (root1 != root2) {
+                uf.unionRoots(root1, root2);
+                mstEdgeIds[mstSize++] = id;
+                totalCost += weight;
+            }
+        }
+
+        Result toResult(long startTime, int runCount, int mergePasses) {
+            double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            return new Result(Arrays.copyOf(mstEdgeIds, mstSize), totalCost, uf.getComponentCount(),
+                    edgesScanned, runCount, mergePasses, executionTimeMs);
+        }
+    }
+
+    // Columns of one chunk of records, reused for every chunk
+    private static final class Chunk {
+        final int[] ids;
+        final int[] from;
+        final int[] to;
+        final int[] weights;
+        int[] order;
+        int size;
+
+        Chunk(int capacity) {
+            ids = new int[capacity];
+            from = new int[capacity];
+            to = new int[capacity];
+            weights = new int[capacity];
+            order = new int[capacity];
+        }
+
+        boolean fill(EdgeFile.Reader reader) throws IOException {
+            size = 0;
+            while (size < ids.length && reader.next()) {
+                ids[size] = reader.id();
+                from[size] = reader.from();
+                to[size] = reader.to();
+                weights[size] = reader.weight();
+                size++;
+            }
+            return size > 0;
+        }
+
+        // order[] lists chunk positions by (weight, id). EdgeSorter breaks ties by
+        // position, which matches id order as long as ids ascend within the file.
+        void sort() {
+            for (int i = 0; i < size; i++) order[i] = i;
+            EdgeSorter.sort(order, 0, size, weights);
+        }
+
+        void writeRun(Path run, int vertexCount) throws IOException {
+            try (EdgeFile.Writer writer = EdgeFile.openWriter(run, vertexCount)) {
+                for (int i = 0; i < size; i++) {
+                    int e = order[i];
+                    writer.write(ids[e], from[e], to[e], weights[e]);
+                }
+            }
+        }
+    }
+
+    // k-way merge of sorted runs with a binary heap of run indices ordered by
+    // the (weight, id) of each run's current record
+    private static final class RunMerger implements AutoCloseable {
+        private final EdgeFile.Reader[] readers;
+        private final int[] heap;
+        private int heapSize;
+        private EdgeFile.Reader current;
+
+        RunMerger(List<Path> runs) throws IOException {
+            readers = new EdgeFile.Reader[runs.size()];
+            heap = new int[runs.size()];
+            try {
+                for (int r = 0; r < readers.length; r++) {
+                    readers[r] = EdgeFile.openReader(runs.get(r));
+                    if (readers[r].next()) {
+                        heap[heapSize++] = r;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) siftDown(i);
+        }
+
+        // Advances to the next record in merged order
+        boolean next() throws IOException {
+            if (current != null) {
+                // The previous minimum's run moves to its next record (or leaves the heap)
+                if (!current.next()) {
+                    heap[0] = heap[--heapSize];
+                }
+                if (heapSize > 0) siftDown(0);
+            }
+            if (heapSize == 0) {
+                current = null;
+                return false;
+            }
+            current = readers[heap[0]];
+            return true;
+        }
+
+        int id() { return current.id(); }
+        int from() { return current.from(); }
+        int to() { return current.to(); }
+        int weight() { return current.weight(); }
+
+        private long key(int run) {
+            EdgeFile.Reader reader = readers[run];
+            return ((long) reader.weight() << 32) | (reader.id() & 0xFFFFFFFFL);
+        }
+
+        private void siftDown(int i) {
+            int run = heap[i];
+            long runKey = key(run);
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= heapSize) break;
+                if (child + 1 < heapSize && key(heap[child + 1]) < key(heap[child])) child++;
+                if (key(heap[child]) >= runKey) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = run;
+        }
+
+        @Override
+        public void close() throws IOException {
+            IOException failure = null;
+            for (EdgeFile.Reader reader : readers) {
+                if (reader == null) continue;
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    if (failure == null) failure = e;
+                }
+            }
+            if (failure != null) throw failure;
+        }
+    }
+}
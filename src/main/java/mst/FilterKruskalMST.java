@@ -0,0 +1,223 @@
+package mst;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+// Filter-Kruskal (Osipov, Sanders, Singler).
+// Instead of sorting all m edges up front, the edge range is split around a
+// sampled pivot weight (in parallel), the light half is solved first, and heavy
+// edges whose endpoints are already connected are filtered out before recursing.
+// On dense graphs most heavy edges are discarded without ever being sorted.
+public class FilterKruskalMST implements MSTAlgorithm {
+    // Ranges at or below this size are sorted and scanned like plain Kruskal
+    private static final int BASE_CASE_SIZE = 2048;
+    private static final int PARTITION_GRAIN = 8192;
+    private static final int PIVOT_SAMPLES = 31;
+
+    private final ForkJoinPool pool;
+    private MSTListener listener = MSTListener.NOOP;
+
+    public FilterKruskalMST() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public FilterKruskalMST(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    @Override
+    public void setListener(MSTListener listener) {
+        this.listener = MSTListener.requireNonNull(listener);
+    }
+
+    @Override
+    public String getName() {
+        return "FilterKruskal";
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph) {
+        graph.requireOnHeap("FilterKruskal");
+        long startTime = System.nanoTime();
+
+        int n = graph.getVertexCount();
+        CSRGraph csr = graph.getCSR();
+        int m = csr.edgeCount;
+
+        MSTListener listener = this.listener;
+        listener.runStart("FilterKruskal", n, m);
+        Run run = new Run(n, csr, listener);
+        int[] edgeIds = new int[m];
+        for (int e = 0; e < m; e++) edgeIds[e] = e;
+        run.solve(edgeIds, 0, m);
+
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+
+        int[] mstEdgeIds = Arrays.copyOf(run.mstEdgeIds, run.mstSize);
+        MSTResult result = new MSTResult("FilterKruskal", graph.edgesById(mstEdgeIds), mstEdgeIds, run.totalCost,
+                executionTimeMs, (int) Math.min(run.operationsCount, Integer.MAX_VALUE));
+        // A forest: one tree per connected component
+        result.setComponents(run.uf.getComponentCount(), null);
+        listener.runEnd(result);
+        return result;
+    }
+
+    // Per-call state so one FilterKruskalMST instance can be shared between threads
+    private final class Run {
+        final int n;
+        final int[] sources;
+        final int[] destinations;
+        final int[] weights;
+        final UnionFind uf;
+        final MSTListener listener;
+        final int[] mstEdgeIds;
+        int mstSize;
+        int totalCost;
+        long operationsCount;
+        int[] scratch = new int[0];
+
+        Run(int n, CSRGraph csr, MSTListener listener) {
+            this.n = n;
+            this.sources = csr.edgeSources;
+            this.destinations = csr.edgeTargets;
+            this.weights = csr.edgeWeights;
+            this.uf = new UnionFind(n);
+            this.listener = listener;
+            this.mstEdgeIds = new int[Math.max(n - 1, 0)];
+        }
+
+        boolean done() {
+            return mstSize >= n - 1;
+        }
+
+        void solve(int[] edgeIds, int from, int to) {
+            if (to - from <= BASE_CASE_SIZE) {
+                kruskal(edgeIds, from, to);
+                return;
+            }
+
+            int pivot = samplePivot(edgeIds, from, to);
+            int split = partition(edgeIds, from, to, pivot);
+            if (split == to && pivot > Integer.MIN_VALUE) {
+                // Pivot was the largest weight; retry with the pivot itself on the heavy side
+                split = partition(edgeIds, from, to, pivot - 1);
+            }
+            if (split == from || split == to) {
+                // Every edge has the same weight, so splitting cannot make progress
+                kruskal(edgeIds, from, to);
+                return;
+            }
+
+            solve(edgeIds, from, split);
+            if (done()) return;
+
+            int heavyEnd = filter(edgeIds, split, to);
+            solve(edgeIds, split, heavyEnd);
+        }
+
+        void kruskal(int[] edgeIds, int from, int to) {
+            int count = to - from;
+            // Partitioning and filtering keep ids ascending, so ties still resolve by edge id
+            listener.phaseStart(MSTPhase.SORT);
+            EdgeSorter.sort(edgeIds, from, to, weights);
+            listener.phaseEnd(MSTPhase.SORT, count);
+            operationsCount += count * (long) Math.max(1, 32 - Integer.numberOfLeadingZeros(count));
+
+            listener.phaseStart(MSTPhase.UNION_FIND);
+            int i = from;
+            for (; i < to; i++) {
+                if (done()) break;
+                int e = edgeIds[i];
+                int root1 = uf.find(sources[e]);
+                int root2 = uf.find(destinations[e]);
+                operationsCount += 2;
+                if (root1 != root2) {
+                    uf.unionRoots(root1, root2);
+                    mstEdgeIds[mstSize++] = e;
+                    totalCost += weights[e];
+                    operationsCount++;
+                }
+            }
+            listener.phaseEnd(MSTPhase.UNION_FIND, i - from);
+        }
+
+        // Median of an evenly spaced sample of weights in the range
+        int samplePivot(int[] edgeIds, int from, int to) {
+            int[] sample = new int[PIVOT_SAMPLES];
+            long step = (to - from) / PIVOT_SAMPLES;
+            for (int i = 0; i < PIVOT_SAMPLES; i++) {
+                sample[i] = weights[edgeIds[(int) (from + i * step)]];
+            }
+            Arrays.sort(sample);
+            return sample[PIVOT_SAMPLES / 2];
+        }
+
+        // Stable parallel partition: weight <= pivot first, heavier edges after.
+        // Returns the start of the heavy part.
+        int partition(int[] edgeIds, int from, int to, int pivot) {
+            int count = to - from;
+            listener.phaseStart(MSTPhase.PARTITION);
+            if (scratch.length < count) scratch = new int[count];
+            int[] buffer = scratch;
+
+            int chunks = Math.max(1, Math.min((count + PARTITION_GRAIN - 1) / PARTITION_GRAIN,
+                    pool.getParallelism() * 4));
+            int chunkSize = (count + chunks - 1) / chunks;
+            int[] lightCounts = new int[chunks + 1];
+
+            ParallelLoops.forRange(pool, 0, chunks, 1, (fromChunk, toChunk) -> {
+                for (int c = fromChunk; c < toChunk; c++) {
+                    int end = Math.min(to, from + (c + 1) * chunkSize);
+                    int light = 0;
+                    for (int i = from + c * chunkSize; i < end; i++) {
+                        if (weights[edgeIds[i]] <= pivot) light++;
+                    }
+                    lightCounts[c + 1] = light;
+                }
+            });
+            for (int c = 0; c < chunks; c++) lightCounts[c + 1] += lightCounts[c];
+            int totalLight = lightCounts[chunks];
+
+            ParallelLoops.forRange(pool, 0, chunks, 1, (fromChunk, toChunk) -> {
+                for (int c = fromChunk; c < toChunk; c++) {
+                    int start = from + c * chunkSize;
+                    int end = Math.min(to, start + chunkSize);
+                    int lightOut = lightCounts[c];
+                    // Heavy edges before this chunk = edges before it minus light ones
+                    int heavyOut = totalLight + (start - from) - lightCounts[c];
+                    for (int i = start; i < end; i++) {
+                        int e = edgeIds[i];
+                        if (weights[e] <= pivot) {
+                            buffer[lightOut++] = e;
+                        } else {
+                            buffer[heavyOut++] = e;
+                        }
+                    }
+                }
+            });
+            System.arraycopy(buffer, 0, edgeIds, from, count);
+            operationsCount += 2L * count;
+            listener.phaseEnd(MSTPhase.PARTITION, count);
+            return from + totalLight;
+        }
+
+        // Removes edges whose endpoints are already in one component; returns the new end
+        int filter(int[] edgeIds, int from, int to) {
+            listener.phaseStart(MSTPhase.FILTER);
+            int out = from;
+            for (int i = from; i < to; i++) {
+                int e = edgeIds[i];
+                if (uf.find(sources[e]) != uf.find(destinations[e])) {
+                    edgeIds[out++] = e;
+                }
+            }
+            operationsCount += 2L * (to - from);
+            listener.phaseEnd(MSTPhase.FILTER, to - from);
+            return out;
+        }
+    }
+}
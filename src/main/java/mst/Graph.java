@@ -4,45 +4,215 @@ import java.util.*;
 
 public class Graph {
     private List<String> vertices;
-    private List<Edge> edges;
-    private Map<String, List<Edge>> adjacencyList;
+    // Null for Builder graphs until getEdges() first creates the Edge objects
+    private volatile List<Edge> edges;
+    // Adjacency map, name index and CSR view are built on first use
+    private volatile Map<String, List<Edge>> adjacencyList;
+    private volatile Map<String, Integer> vertexIndex;
+    private volatile CSRGraph csr;
+    private final OffHeapEdgeStore edgeStore;
 
+    // Checks that every edge endpoint is a vertex; see Builder for int-id input,
+    // duplicate checks and the trusted path
     public Graph(List<String> vertices, List<Edge> edges) {
         if (vertices == null || edges == null) {
             throw new IllegalArgumentException("Vertices and edges cannot be null");
         }
         this.vertices = new ArrayList<>(vertices);
         this.edges = new ArrayList<>(edges);
+        this.edgeStore = null;
+
+        this.vertexIndex = buildVertexIndex(this.vertices);
 
         // Validate that all edges reference existing vertices
         validateEdges();
-        this.adjacencyList = buildAdjacencyList();
+    }
+
+    // Used by Builder: vertices is already a private copy and the CSR view,
+    // built straight from the int columns, is the only edge storage so far
+    private Graph(List<String> vertices, Map<String, Integer> vertexIndex, CSRGraph csr) {
+        this.vertices = vertices;
+        this.vertexIndex = vertexIndex;
+        this.csr = csr;
+        this.edgeStore = null;
+    }
+
+    // Validated bulk construction from edge columns; vertex ids are positions in vertices
+    public static Graph fromArrays(List<String> vertices, int[] from, int[] to, int[] weights) {
+        return new Builder(vertices).addEdges(from, to, weights).build();
+    }
+
+    // A graph whose edges live in an off-heap store; vertex i of the store is
+    // vertices.get(i). The store stays owned by the caller and must outlive the
+    // graph's use. Engines that read the store in place report
+    // MSTAlgorithm.supportsEdgeStore() (Kruskal, ExternalKruskal, Sharded, and
+    // Auto restricted to those); the others reject store-backed graphs. getCSR()
+    // still works but copies the store into on-heap CSR arrays (about 7 ints per
+    // edge), and getEdges() is a read-only view that creates an Edge on every get().
+    public static Graph fromStore(List<String> vertices, OffHeapEdgeStore edgeStore) {
+        return new Graph(edgeStore, vertices);
+    }
+
+    private Graph(OffHeapEdgeStore edgeStore, List<String> vertices) {
+        if (vertices == null || edgeStore == null) {
+            throw new IllegalArgumentException("Vertices and edge store cannot be null");
+        }
+        if (vertices.size() != edgeStore.getVertexCount()) {
+            throw new IllegalArgumentException("Edge store has " + edgeStore.getVertexCount()
+                    + " vertices but " + vertices.size() + " names were given");
+        }
+        this.vertices = new ArrayList<>(vertices);
+        this.edgeStore = edgeStore;
+        this.edges = new StoreEdgeView();
+    }
+
+    private Map<String, Integer> vertexIndex() {
+        Map<String, Integer> index = vertexIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = vertexIndex;
+                if (index == null) {
+                    index = buildVertexIndex(vertices);
+                    vertexIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    // First position wins for repeated names
+    private static Map<String, Integer> buildVertexIndex(List<String> vertices) {
+        Map<String, Integer> index = new HashMap<>(vertices.size() * 2);
+        for (int i = 0; i < vertices.size(); i++) {
+            index.putIfAbsent(vertices.get(i), i);
+        }
+        return index;
     }
 
     private void validateEdges() {
-        Set<String> vertexSet = new HashSet<>(vertices);
-        for (Edge edge : edges) {
-            if (!vertexSet.contains(edge.from)) {
+        Map<String, Integer> vertexIndex = vertexIndex();
+        for (Edge edge : getEdges()) {
+            if (!vertexIndex.containsKey(edge.from)) {
                 throw new IllegalArgumentException("Vertex '" + edge.from + "' in edge does not exist in graph vertices");
             }
-            if (!vertexSet.contains(edge.to)) {
+            if (!vertexIndex.containsKey(edge.to)) {
                 throw new IllegalArgumentException("Vertex '" + edge.to + "' in edge does not exist in graph vertices");
             }
         }
     }
 
     public List<String> getVertices() { return vertices; }
-    public List<Edge> getEdges() { return edges; }
     public int getVertexCount() { return vertices.size(); }
-    public int getEdgeCount() { return edges.size(); }
+
+    // For engines without a store path, which would otherwise silently copy the
+    // store to the heap through getCSR()
+    void requireOnHeap(String algorithm) {
+        if (edgeStore != null) {
+            throw new IllegalArgumentException(algorithm + " cannot run on a store-backed graph;"
+                    + " use an engine that supports edge stores, such as Kruskal");
+        }
+    }
+
+    public int getEdgeCount() {
+        List<Edge> list = edges;
+        return list != null ? list.size() : csr.edgeCount;
+    }
+
+    // Builder graphs create their Edge objects here, on the first call
+    public List<Edge> getEdges() {
+        List<Edge> list = edges;
+        if (list == null) {
+            synchronized (this) {
+                list = edges;
+                if (list == null) {
+                    CSRGraph view = csr;
+                    list = new ArrayList<>(view.edgeCount);
+                    for (int e = 0; e < view.edgeCount; e++) list.add(edgeAt(view, e));
+                    edges = list;
+                }
+            }
+        }
+        return list;
+    }
 
     public Map<String, List<Edge>> getAdjacencyList() {
-        return adjacencyList;
+        Map<String, List<Edge>> adjacency = adjacencyList;
+        if (adjacency == null) {
+            synchronized (this) {
+                adjacency = adjacencyList;
+                if (adjacency == null) {
+                    adjacency = buildAdjacencyList();
+                    adjacencyList = adjacency;
+                }
+            }
+        }
+        return adjacency;
+    }
+
+    // Off-heap backing store, or null for a graph built from Edge objects
+    public OffHeapEdgeStore getEdgeStore() {
+        return edgeStore;
+    }
+
+    // Position of the vertex in getVertices(), or -1 if it is not part of the graph
+    public int indexOf(String vertex) {
+        Integer index = vertexIndex().get(vertex);
+        return index == null ? -1 : index;
+    }
+
+    // Resolves edge ids (positions in getEdges()) back to Edge objects at the API boundary
+    public List<Edge> edgesById(int[] edgeIds) {
+        List<Edge> list = edges;
+        CSRGraph view = csr;
+        List<Edge> result = new ArrayList<>(edgeIds.length);
+        for (int id : edgeIds) {
+            result.add(list != null ? list.get(id) : edgeAt(view, id));
+        }
+        return result;
+    }
+
+    // Int-indexed CSR view used by the MST engines; built once on first use
+    public CSRGraph getCSR() {
+        CSRGraph view = csr;
+        if (view == null) {
+            synchronized (this) {
+                view = csr;
+                if (view == null) {
+                    MSTEvents.AdjacencyBuildEvent event = new MSTEvents.AdjacencyBuildEvent();
+                    event.begin();
+                    view = edgeStore != null
+                            ? CSRGraph.fromStore(edgeStore)
+                            : CSRGraph.fromEdges(vertices.size(), vertexIndex(), edges);
+                    commitAdjacencyEvent(event, "csr", vertices.size(), view.edgeCount);
+                    csr = view;
+                }
+            }
+        }
+        return view;
+    }
+
+    private static void commitAdjacencyEvent(MSTEvents.AdjacencyBuildEvent event, String layout,
+                                             int vertexCount, int edgeCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.layout = layout;
+            event.vertexCount = vertexCount;
+            event.edgeCount = edgeCount;
+            event.commit();
+        }
+    }
+
+    // Reuses the vertex list's String instances for the endpoints
+    private Edge edgeAt(CSRGraph view, int e) {
+        return new Edge(vertices.get(view.edgeSources[e]), vertices.get(view.edgeTargets[e]), view.edgeWeights[e]);
     }
 
     private Map<String, List<Edge>> buildAdjacencyList() {
+        MSTEvents.AdjacencyBuildEvent event = new MSTEvents.AdjacencyBuildEvent();
+        event.begin();
         Map<String, List<Edge>> adjList = new HashMap<>();
 
+        List<Edge> edges = getEdges();
         for (Edge edge : edges) {
             // Add edge to from-vertex's list
             adjList.computeIfAbsent(edge.from, k -> new ArrayList<>()).add(edge);
@@ -50,9 +220,164 @@ public class Graph {
             adjList.computeIfAbsent(edge.to, k -> new ArrayList<>()).add(edge);
         }
 
+        commitAdjacencyEvent(event, "map", vertices.size(), edges.size());
         return adjList;
     }
 
+    private final class StoreEdgeView extends AbstractList<Edge> implements RandomAccess {
+        @Override
+        public Edge get(int index) {
+            return new Edge(vertices.get(edgeStore.from(index)), vertices.get(edgeStore.to(index)),
+                    edgeStore.weight(index));
+        }
+
+        @Override
+        public int size() {
+            return edgeStore.size();
+        }
+    }
+
+    // Collects edges as int columns and builds the Graph and its CSR view in one go.
+    // Validation (unique vertex names, no duplicate edge in either direction)
+    // happens once in build() over the int CSR rows; trusted() skips
+    // it for input that was already checked, such as the loaders'. Vertex ids are
+    // range-checked in both modes. A builder builds one graph.
+    public static class Builder {
+        private final List<String> vertices;
+        private Map<String, Integer> vertexIndex;
+        private int[] from = new int[16];
+        private int[] to = new int[16];
+        private int[] weights = new int[16];
+        private int size;
+        private boolean trusted;
+        private boolean built;
+
+        public Builder(List<String> vertices) {
+            if (vertices == null) {
+                throw new IllegalArgumentException("Vertices cannot be null");
+            }
+            this.vertices = new ArrayList<>(vertices);
+        }
+
+        // For loaders that already mapped every name to its position (names unique)
+        Builder(List<String> vertices, Map<String, Integer> vertexIndex) {
+            this(vertices);
+            this.vertexIndex = vertexIndex;
+        }
+
+        public Builder trusted() {
+            trusted = true;
+            return this;
+        }
+
+        public Builder expectedEdges(int edgeCount) {
+            if (edgeCount > from.length) resize(edgeCount);
+            return this;
+        }
+
+        public Builder addEdge(int from, int to, int weight) {
+            checkVertex(from);
+            checkVertex(to);
+            if (size == this.from.length) resize(size * 2);
+            this.from[size] = from;
+            this.to[size] = to;
+            this.weights[size] = weight;
+            size++;
+            return this;
+        }
+
+        // Name lookup for callers without ids; slower than addEdge(int, int, int)
+        public Builder addEdge(String from, String to, int weight) {
+            if (vertexIndex == null) vertexIndex = buildVertexIndex(vertices);
+            return addEdge(lookup(from), lookup(to), weight);
+        }
+
+        public Builder addEdges(int[] from, int[] to, int[] weights) {
+            if (from == null || to == null || weights == null) {
+                throw new IllegalArgumentException("Edge columns cannot be null");
+            }
+            if (from.length != to.length || from.length != weights.length) {
+                throw new IllegalArgumentException("Edge columns differ in length: "
+                        + from.length + ", " + to.length + ", " + weights.length);
+            }
+            expectedEdges(size + from.length);
+            for (int e = 0; e < from.length; e++) {
+                addEdge(from[e], to[e], weights[e]);
+            }
+            return this;
+        }
+
+        public Graph build() {
+            if (built) {
+                throw new IllegalStateException("Builder already built its graph");
+            }
+            built = true;
+
+            int n = vertices.size();
+            if (size < from.length) resize(size);
+            MSTEvents.AdjacencyBuildEvent event = new MSTEvents.AdjacencyBuildEvent();
+            event.begin();
+            CSRGraph csr = new CSRGraph(n, from, to, weights);
+            commitAdjacencyEvent(event, "csr", n, size);
+
+            if (!trusted) validate(csr);
+            return new Graph(vertices, vertexIndex, csr);
+        }
+
+        // Duplicate edges show up as a repeated neighbour within one CSR row, so a
+        // per-vertex marker finds them in O(n + m) without hashing any edge
+        private void validate(CSRGraph csr) {
+            if (vertexIndex == null) vertexIndex = buildVertexIndex(vertices);
+            if (vertexIndex.size() != vertices.size()) {
+                for (int i = 0; i < vertices.size(); i++) {
+                    if (vertexIndex.get(vertices.get(i)) != i) {
+                        throw new IllegalArgumentException("Duplicate vertex: " + vertices.get(i));
+                    }
+                }
+            }
+            int n = csr.vertexCount;
+            int[] seenFrom = new int[n];
+            int[] seenEdge = new int[n];
+            Arrays.fill(seenFrom, -1);
+            for (int u = 0; u < n; u++) {
+                for (int slot = csr.offsets[u], end = csr.offsets[u + 1]; slot < end; slot++) {
+                    int v = csr.targets[slot];
+                    int e = csr.edgeIds[slot];
+                    // A self-loop fills two slots of its row with the same edge id
+                    if (seenFrom[v] == u && seenEdge[v] != e) {
+                        throw new IllegalArgumentException("Duplicate edge: "
+                                + vertices.get(csr.edgeSources[e]) + "-" + vertices.get(csr.edgeTargets[e]));
+                    }
+                    seenFrom[v] = u;
+                    seenEdge[v] = e;
+                }
+            }
+        }
+
+        private int lookup(String vertex) {
+            Integer index = vertexIndex.get(vertex);
+            if (index == null) {
+                throw new IllegalArgumentException("Vertex '" + vertex + "' in edge does not exist in graph vertices");
+            }
+            return index;
+        }
+
+        private void checkVertex(int vertex) {
+            if (built) {
+                throw new IllegalStateException("Builder already built its graph");
+            }
+            if (vertex < 0 || vertex >= vertices.size()) {
+                throw new IllegalArgumentException("Vertex id " + vertex + " outside 0.." + (vertices.size() - 1));
+            }
+        }
+
+        private void resize(int capacity) {
+            from = Arrays.copyOf(from, capacity);
+            to = Arrays.copyOf(to, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+    }
+
     public static class Edge {
         public final String from;
         public final String to;
@@ -0,0 +1,102 @@
+package mst;
+
+// 128-bit content hash of a Graph: vertex names in order, then every edge as
+// (position, from index, to index, weight). Two graphs with the same fingerprint
+// have, with overwhelming probability, the same vertices and edges in the same
+// order, so cached results (edge ids and tie-breaks included) are interchangeable.
+//
+// Each element is hashed on its own together with its position and the element
+// hashes are summed, so the two 64-bit lanes use independent seeds and no lane
+// depends on evaluation order.
+public final class GraphFingerprint {
+    private static final long SEED_HIGH = 0x9E3779B97F4A7C15L;
+    private static final long SEED_LOW = 0xC2B2AE3D27D4EB4FL;
+    private static final long VERTEX_TAG = 0x56L << 56;
+    private static final long EDGE_TAG = 0x45L << 56;
+
+    private final long high;
+    private final long low;
+
+    public GraphFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    public static GraphFingerprint of(Graph graph) {
+        long high = mix(SEED_HIGH ^ graph.getVertexCount());
+        long low = mix(SEED_LOW ^ graph.getEdgeCount());
+
+        int position = 0;
+        for (String vertex : graph.getVertices()) {
+            long element = mix(VERTEX_TAG ^ position++) ^ stringHash(vertex);
+            high += mix(element ^ SEED_HIGH);
+            low += mix(element ^ SEED_LOW);
+        }
+
+        // Store-backed graphs are hashed from the off-heap columns, without a CSR copy
+        OffHeapEdgeStore store = graph.getEdgeStore();
+        if (store != null) {
+            for (int e = 0; e < store.size(); e++) {
+                long element = edgeElement(e, store.from(e), store.to(e), store.weight(e));
+                high += mix(element ^ SEED_HIGH);
+                low += mix(element ^ SEED_LOW);
+            }
+        } else {
+            CSRGraph csr = graph.getCSR();
+            for (int e = 0; e < csr.edgeCount; e++) {
+                long element = edgeElement(e, csr.edgeSources[e], csr.edgeTargets[e], csr.edgeWeights[e]);
+                high += mix(element ^ SEED_HIGH);
+                low += mix(element ^ SEED_LOW);
+            }
+        }
+        return new GraphFingerprint(mix(high), mix(low));
+    }
+
+    private static long edgeElement(int e, int from, int to, int weight) {
+        long endpoints = ((long) from << 32) | (to & 0xFFFFFFFFL);
+        return mix(EDGE_TAG ^ ((long) e << 32) ^ (weight & 0xFFFFFFFFL)) ^ endpoints;
+    }
+
+    public long getHigh() { return high; }
+    public long getLow() { return low; }
+
+    // 32 hex digits, usable as a file name
+    public String toHex() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GraphFingerprint)) return false;
+        GraphFingerprint other = (GraphFingerprint) o;
+        return high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (low ^ (low >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return toHex();
+    }
+
+    // 64-bit FNV-1a over the UTF-16 chars, finished with mix()
+    private static long stringHash(String s) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            hash ^= s.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // MurmurHash3 fmix64, as in LongHashSet
+    private static long mix(long key) {
+        key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+        key = (key ^ (key >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return key ^ (key >>> 33);
+    }
+}
@@ -0,0 +1,44 @@
+package mst;
+
+import java.util.*;
+
+// Seeded random graphs for the JMH benchmarks and CostModel calibration.
+// A random spanning tree is always included so every graph is connected; the
+// remaining vertex pairs are added with probability `density`.
+final class GraphGenerator {
+
+    private GraphGenerator() {}
+
+    static Graph generate(int vertexCount, double density, int weightRange, long seed) {
+        return new Graph(vertexNames(vertexCount), generateEdges(vertexCount, density, weightRange, seed));
+    }
+
+    static List<String> vertexNames(int vertexCount) {
+        List<String> vertices = new ArrayList<>(vertexCount);
+        for (int i = 0; i < vertexCount; i++) {
+            vertices.add("V" + i);
+        }
+        return vertices;
+    }
+
+    static List<Graph.Edge> generateEdges(int vertexCount, double density, int weightRange, long seed) {
+        Random random = new Random(seed);
+        List<String> vertices = vertexNames(vertexCount);
+        List<Graph.Edge> edges = new ArrayList<>();
+        LongHashSet used = new LongHashSet(vertexCount);
+
+        for (int v = 1; v < vertexCount; v++) {
+            int u = random.nextInt(v);
+            used.add(LongHashSet.edgeKey(u, v));
+            edges.add(new Graph.Edge(vertices.get(u), vertices.get(v), random.nextInt(weightRange) + 1));
+        }
+        for (int u = 0; u < vertexCount; u++) {
+            for (int v = u + 1; v < vertexCount; v++) {
+                if (random.nextDouble() < density && !used.contains(LongHashSet.edgeKey(u, v))) {
+                    edges.add(new Graph.Edge(vertices.get(u), vertices.get(v), random.nextInt(weightRange) + 1));
+                }
+            }
+        }
+        return edges;
+    }
+}
@@ -1,83 +1,297 @@
 package mst;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+// Streaming loader for the {"graphs": [{"nodes": [...], "edges": [...]}, ...]} format.
+// Graphs are built token by token with a JsonParser, so at most one graph is
+// materialized at a time when iterating with openGraphs/streamGraphs.
+// Every entry point also accepts the binary container written by BinaryGraphFormat.
 public class GraphLoader {
-    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final JsonFactory factory = new JsonFactory();
 
     public static List<Graph> loadGraphsFromFile(String filename) throws IOException {
+        List<Graph> graphs = new ArrayList<>();
+        try (GraphIterator iterator = openGraphs(filename)) {
+            while (iterator.hasNextGraph()) {
+                graphs.add(iterator.nextGraph());
+            }
+        }
+        return graphs;
+    }
+
+    // Iterates the graphs of a file one at a time; the caller must close it.
+    // Binary graph files (see BinaryGraphFormat) are recognized by their magic number.
+    public static GraphIterator openGraphs(String filename) throws IOException {
         File file = new File(filename);
         if (!file.exists()) {
             throw new IOException("File not found: " + filename);
         }
+        if (BinaryGraphFormat.isBinaryGraphFile(file.toPath())) {
+            return BinaryGraphFormat.openGraphs(file.toPath());
+        }
 
-        List<Graph> graphs = new ArrayList<>();
-        JsonNode root = mapper.readTree(file);
-        JsonNode graphsNode = root.get("graphs");
+        JsonParser parser = factory.createParser(file);
+        try {
+            seekGraphsArray(parser);
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+        return new JsonGraphIterator(parser);
+    }
+
+    // Lazily parsed stream of graphs; close the stream to release the file.
+    // Parse errors surface as UncheckedIOException.
+    public static Stream<Graph> streamGraphs(String filename) throws IOException {
+        GraphIterator iterator = openGraphs(filename);
+        Spliterator<Graph> spliterator = Spliterators.spliteratorUnknownSize(
+                iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                iterator.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
 
-        if (graphsNode == null || !graphsNode.isArray()) {
+    private static void seekGraphsArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
             throw new IOException("Invalid JSON format: missing 'graphs' array");
         }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("graphs".equals(field)) {
+                if (value != JsonToken.START_ARRAY) {
+                    throw new IOException("Invalid JSON format: missing 'graphs' array");
+                }
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw new IOException("Invalid JSON format: missing 'graphs' array");
+    }
 
-        for (JsonNode graphNode : graphsNode) {
-            List<String> vertices = new ArrayList<>();
-            List<Graph.Edge> edges = new ArrayList<>();
+    public abstract static class GraphIterator implements Iterator<Graph>, Closeable {
 
-            // Load vertices
-            JsonNode verticesNode = graphNode.get("nodes");
-            if (verticesNode == null || !verticesNode.isArray()) {
-                throw new IOException("Invalid graph format: missing 'nodes' array");
+        // Checked-exception variants of hasNext/next
+        public abstract boolean hasNextGraph() throws IOException;
+
+        public abstract Graph nextGraph() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return hasNextGraph();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Graph next() {
+            try {
+                return nextGraph();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
+        }
+    }
+
+    private static final class JsonGraphIterator extends GraphIterator {
+        private final JsonParser parser;
+        private boolean finished;
+        private boolean advanced;
 
-            Set<String> uniqueVertices = new HashSet<>();
-            for (JsonNode vertexNode : verticesNode) {
-                String vertex = vertexNode.asText();
-                if (uniqueVertices.contains(vertex)) {
-                    throw new IOException("Duplicate vertex found: " + vertex);
+        private JsonGraphIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNextGraph() throws IOException {
+            if (!advanced && !finished) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.END_ARRAY || token == null) {
+                    finished = true;
+                } else if (token != JsonToken.START_OBJECT) {
+                    throw new IOException("Invalid graph format: expected an object");
                 }
-                uniqueVertices.add(vertex);
-                vertices.add(vertex);
+                advanced = true;
             }
+            return !finished;
+        }
 
-            // Load edges
-            JsonNode edgesNode = graphNode.get("edges");
-            if (edgesNode == null || !edgesNode.isArray()) {
-                throw new IOException("Invalid graph format: missing 'edges' array");
+        @Override
+        public Graph nextGraph() throws IOException {
+            if (!hasNextGraph()) {
+                throw new NoSuchElementException();
             }
+            advanced = false;
+            return readGraph(parser);
+        }
 
-            Set<String> uniqueEdges = new HashSet<>();
-            for (JsonNode edgeNode : edgesNode) {
-                if (!edgeNode.has("from") || !edgeNode.has("to") || !edgeNode.has("weight")) {
-                    throw new IOException("Invalid edge format: missing required fields");
-                }
+        @Override
+        public void close() throws IOException {
+            finished = true;
+            parser.close();
+        }
+    }
 
-                String from = edgeNode.get("from").asText();
-                String to = edgeNode.get("to").asText();
-                int weight = edgeNode.get("weight").asInt();
+    // Reads one graph object; the parser is positioned on its START_OBJECT
+    private static Graph readGraph(JsonParser parser) throws IOException {
+        MSTEvents.GraphParseEvent parse = new MSTEvents.GraphParseEvent();
+        parse.begin();
+        List<String> vertices = null;
+        Map<String, Integer> vertexIds = null;
+        PendingEdges edges = null;
 
-                // Validate vertices exist
-                if (!vertices.contains(from) || !vertices.contains(to)) {
-                    throw new IOException("Edge references non-existent vertex: " + from + "-" + to);
-                }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("nodes".equals(field) && value == JsonToken.START_ARRAY) {
+                vertices = new ArrayList<>();
+                vertexIds = new HashMap<>();
+                readVertices(parser, vertices, vertexIds);
+            } else if ("edges".equals(field) && value == JsonToken.START_ARRAY) {
+                edges = readEdges(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (vertices == null) {
+            throw new IOException("Invalid graph format: missing 'nodes' array");
+        }
+        if (edges == null) {
+            throw new IOException("Invalid graph format: missing 'edges' array");
+        }
+        parse.end();
+        if (parse.shouldCommit()) {
+            parse.format = "json";
+            parse.vertexCount = vertices.size();
+            parse.edgeCount = edges.size();
+            parse.commit();
+        }
+
+        MSTEvents.GraphValidateEvent validate = new MSTEvents.GraphValidateEvent();
+        validate.begin();
+        Graph graph = edges.toGraph(vertices, vertexIds);
+        validate.end();
+        if (validate.shouldCommit()) {
+            validate.format = "json";
+            validate.vertexCount = graph.getVertexCount();
+            validate.edgeCount = graph.getEdgeCount();
+            validate.commit();
+        }
+        return graph;
+    }
+
+    private static void readVertices(JsonParser parser, List<String> vertices,
+                                     Map<String, Integer> vertexIds) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null || !token.isScalarValue()) {
+                throw new IOException("Invalid graph format: vertex must be a scalar value");
+            }
+            String vertex = parser.getValueAsString();
+            if (vertexIds.putIfAbsent(vertex, vertices.size()) != null) {
+                throw new IOException("Duplicate vertex found: " + vertex);
+            }
+            vertices.add(vertex);
+        }
+    }
+
+    private static PendingEdges readEdges(JsonParser parser) throws IOException {
+        PendingEdges edges = new PendingEdges();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Invalid edge format: missing required fields");
+            }
+            String from = null;
+            String to = null;
+            int weight = 0;
+            boolean hasWeight = false;
 
-                // Check for duplicate edges
-                String edgeKey1 = from + "-" + to;
-                String edgeKey2 = to + "-" + from;
-                if (uniqueEdges.contains(edgeKey1) || uniqueEdges.contains(edgeKey2)) {
-                    throw new IOException("Duplicate edge found: " + from + "-" + to);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!value.isScalarValue()) {
+                    parser.skipChildren();
+                } else if ("from".equals(field)) {
+                    from = parser.getValueAsString();
+                } else if ("to".equals(field)) {
+                    to = parser.getValueAsString();
+                } else if ("weight".equals(field)) {
+                    weight = parser.getValueAsInt();
+                    hasWeight = true;
                 }
+            }
+
+            if (from == null || to == null || !hasWeight) {
+                throw new IOException("Invalid edge format: missing required fields");
+            }
+            edges.add(from, to, weight);
+        }
+        return edges;
+    }
+
+    // Edge columns collected while parsing; validated once the vertex list is known
+    // (the format does not require "nodes" to come before "edges")
+    private static final class PendingEdges {
+        private List<String> froms = new ArrayList<>();
+        private List<String> tos = new ArrayList<>();
+        private int[] weights = new int[16];
 
-                uniqueEdges.add(edgeKey1);
-                edges.add(new Graph.Edge(from, to, weight));
+        void add(String from, String to, int weight) {
+            if (froms.size() == weights.length) {
+                weights = Arrays.copyOf(weights, weights.length * 2);
             }
+            weights[froms.size()] = weight;
+            froms.add(from);
+            tos.add(to);
+        }
 
-            graphs.add(new Graph(vertices, edges));
+        int size() {
+            return froms.size();
         }
 
-        return graphs;
+        // Names are resolved with the loader's own index; the Builder then checks
+        // for duplicate edges once, over its int CSR rows
+        Graph toGraph(List<String> vertices, Map<String, Integer> vertexIds) throws IOException {
+            int m = froms.size();
+            Graph.Builder builder = new Graph.Builder(vertices, vertexIds).expectedEdges(m);
+
+            for (int e = 0; e < m; e++) {
+                String from = froms.get(e);
+                String to = tos.get(e);
+
+                // Validate vertices exist (hashed id lookup)
+                Integer fromId = vertexIds.get(from);
+                Integer toId = vertexIds.get(to);
+                if (fromId == null || toId == null) {
+                    throw new IOException("Edge references non-existent vertex: " + from + "-" + to);
+                }
+                builder.addEdge(fromId, toId, weights[e]);
+            }
+            froms = null;
+            tos = null;
+
+            try {
+                return builder.build();
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package mst;
+
+import java.util.List;
+
+// Outcome of running every configured algorithm on one input graph
+public class GraphRunResult {
+    private final int graphId;
+    private final int vertexCount;
+    private final int edgeCount;
+    private final List<MSTResult> results;
+
+    public GraphRunResult(int graphId, int vertexCount, int edgeCount, List<MSTResult> results) {
+        this.graphId = graphId;
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeCount;
+        this.results = results;
+    }
+
+    public int getGraphId() { return graphId; }
+    public int getVertexCount() { return vertexCount; }
+    public int getEdgeCount() { return edgeCount; }
+    // One result per algorithm, in the tester's algorithm order
+    public List<MSTResult> getResults() { return results; }
+}
@@ -0,0 +1,161 @@
+package mst;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Indexed min-heap of the int items 0..capacity-1 keyed by int priorities.
+// Each item is stored at most once, so decreaseKey updates it in place instead
+// of pushing a duplicate. All storage is allocated up front.
+// Higher arity gives a shallower tree (cheaper decreaseKey, which dominates on
+// dense graphs) at the cost of more comparisons per poll.
+public class IndexedDaryHeap {
+    public static final int DEFAULT_ARITY = 4;
+
+    private final int arity;
+    private final int[] heap;      // position -> item
+    private final int[] position;  // item -> position, -1 when absent
+    private final int[] keys;      // item -> key
+    private int size;
+
+    public IndexedDaryHeap(int capacity) {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new int[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public int getArity() { return arity; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public boolean contains(int item) {
+        return position[item] >= 0;
+    }
+
+    public int keyOf(int item) {
+        return keys[item];
+    }
+
+    public void insert(int item, int key) {
+        if (position[item] >= 0) {
+            throw new IllegalArgumentException("Item already in heap: " + item);
+        }
+        keys[item] = key;
+        position[item] = size;
+        heap[size] = item;
+        siftUp(size++);
+    }
+
+    public void decreaseKey(int item, int key) {
+        int pos = position[item];
+        if (pos < 0) {
+            throw new IllegalArgumentException("Item not in heap: " + item);
+        }
+        if (key > keys[item]) {
+            throw new IllegalArgumentException("New key " + key + " is greater than current key " + keys[item]);
+        }
+        keys[item] = key;
+        siftUp(pos);
+    }
+
+    // Inserts the item, or lowers its key if it is present with a larger one.
+    // Returns true if the heap changed.
+    public boolean insertOrDecrease(int item, int key) {
+        int pos = position[item];
+        if (pos < 0) {
+            insert(item, key);
+            return true;
+        }
+        if (key < keys[item]) {
+            keys[item] = key;
+            siftUp(pos);
+            return true;
+        }
+        return false;
+    }
+
+    public int peekMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    public int pollMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        int min = heap[0];
+        position[min] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int pos) {
+        int item = heap[pos];
+        int key = keys[item];
+        while (pos > 0) {
+            int parentPos = (pos - 1) / arity;
+            int parent = heap[parentPos];
+            if (keys[parent] <= key) break;
+            heap[pos] = parent;
+            position[parent] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = item;
+        position[item] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int item = heap[pos];
+        int key = keys[item];
+        while (true) {
+            int firstChild = pos * arity + 1;
+            if (firstChild >= size) break;
+
+            // Find the smallest of up to `arity` children
+            int lastChild = Math.min(firstChild + arity, size);
+            int bestPos = firstChild;
+            int bestKey = keys[heap[firstChild]];
+            for (int c = firstChild + 1; c < lastChild; c++) {
+                int childKey = keys[heap[c]];
+                if (childKey < bestKey) {
+                    bestKey = childKey;
+                    bestPos = c;
+                }
+            }
+
+            if (bestKey >= key) break;
+            int child = heap[bestPos];
+            heap[pos] = child;
+            position[child] = pos;
+            pos = bestPos;
+        }
+        heap[pos] = item;
+        position[item] = pos;
+    }
+}
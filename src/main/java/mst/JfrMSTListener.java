@@ -0,0 +1,97 @@
+package mst;
+
+import java.util.*;
+
+// Turns listener callbacks into JFR events (see MSTEvents): one RunEvent per
+// run and one PhaseEvent per phase. HEAP and RELAXATION fire once per vertex in
+// Prim, so they are summed into a single PhaseEvent per run instead. Nothing is
+// allocated per phase while the events are disabled. State is kept per thread,
+// like PhaseStatsListener.
+public class JfrMSTListener implements MSTListener {
+    private static final MSTPhase[] PHASES = MSTPhase.values();
+    private static final Set<MSTPhase> SUMMED = EnumSet.of(MSTPhase.HEAP, MSTPhase.RELAXATION);
+
+    private final ThreadLocal<Run> current = ThreadLocal.withInitial(Run::new);
+
+    @Override
+    public void runStart(String algorithm, int vertexCount, int edgeCount) {
+        Run run = current.get();
+        run.algorithm = algorithm;
+        run.vertexCount = vertexCount;
+        run.edgeCount = edgeCount;
+        run.event = new MSTEvents.RunEvent();
+        run.phasesEnabled = new MSTEvents.PhaseEvent().isEnabled();
+        Arrays.fill(run.open, null);
+        run.event.begin();
+    }
+
+    @Override
+    public void phaseStart(MSTPhase phase) {
+        Run run = current.get();
+        if (!run.phasesEnabled) return;
+        int p = phase.ordinal();
+        MSTEvents.PhaseEvent event = run.open[p];
+        if (event == null) {
+            event = new MSTEvents.PhaseEvent();
+            run.fill(event);
+            event.phase = phase.name();
+            run.open[p] = event;
+            event.begin();
+        }
+        run.started[p] = System.nanoTime();
+    }
+
+    @Override
+    public void phaseEnd(MSTPhase phase, long count) {
+        Run run = current.get();
+        if (!run.phasesEnabled) return;
+        int p = phase.ordinal();
+        MSTEvents.PhaseEvent event = run.open[p];
+        if (event == null) return;
+        event.end();
+        event.phaseNanos += System.nanoTime() - run.started[p];
+        event.count += count;
+        event.invocations++;
+        if (!SUMMED.contains(phase)) {
+            event.commit();
+            run.open[p] = null;
+        }
+    }
+
+    @Override
+    public void runEnd(MSTResult result) {
+        Run run = current.get();
+        for (MSTPhase phase : PHASES) {
+            MSTEvents.PhaseEvent event = run.open[phase.ordinal()];
+            if (event != null) event.commit();
+        }
+        Arrays.fill(run.open, null);
+
+        MSTEvents.RunEvent event = run.event;
+        if (event == null) return;
+        event.end();
+        if (event.shouldCommit()) {
+            run.fill(event);
+            event.totalCost = result.getTotalCost();
+            event.componentCount = result.getComponentCount();
+            event.commit();
+        }
+        run.event = null;
+    }
+
+    private static final class Run {
+        final MSTEvents.PhaseEvent[] open = new MSTEvents.PhaseEvent[PHASES.length];
+        final long[] started = new long[PHASES.length];
+        MSTEvents.RunEvent event;
+        boolean phasesEnabled;
+        String algorithm;
+        int vertexCount;
+        int edgeCount;
+
+        void fill(MSTEvents.MSTEvent event) {
+            event.algorithm = algorithm;
+            event.vertexCount = vertexCount;
+            event.edgeCount = edgeCount;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package mst;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+// Writes the {"results": [...]} JSON report with a streaming JsonGenerator.
+// Each graph's object is written and flushed as soon as it arrives, so memory
+// use does not grow with the number of graphs or MST edges.
+public class JsonResultSink implements ResultSink {
+    private static final JsonFactory factory = new JsonFactory();
+
+    private final String outputFile;
+    private final boolean compactEdges;
+    private List<MSTAlgorithm> algorithms;
+    private JsonGenerator generator;
+
+    public JsonResultSink(String outputFile) {
+        this(outputFile, false);
+    }
+
+    // compactEdges writes "mst_edge_ids" (positions in the input graph's edge list)
+    // instead of one {"from", "to", "weight"} object per MST edge
+    public JsonResultSink(String outputFile, boolean compactEdges) {
+        this.outputFile = outputFile;
+        this.compactEdges = compactEdges;
+    }
+
+    @Override
+    public void begin(List<MSTAlgorithm> algorithms) throws IOException {
+        this.algorithms = algorithms;
+
+        // Ensure directory exists
+        File outputFileObj = new File(outputFile);
+        File parentDir = outputFileObj.getAbsoluteFile().getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+
+        generator = factory.createGenerator(outputFileObj, JsonEncoding.UTF8);
+        generator.useDefaultPrettyPrinter();
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("results");
+    }
+
+    @Override
+    public void accept(GraphRunResult run) throws IOException {
+        MSTEvents.ResultWriteEvent event = new MSTEvents.ResultWriteEvent();
+        event.begin();
+        generator.writeStartObject();
+        generator.writeNumberField("graph_id", run.getGraphId());
+
+        // Input stats
+        generator.writeObjectFieldStart("input_stats");
+        generator.writeNumberField("vertices", run.getVertexCount());
+        generator.writeNumberField("edges", run.getEdgeCount());
+        generator.writeEndObject();
+
+        for (int a = 0; a < algorithms.size(); a++) {
+            MSTResult result = run.getResults().get(a);
+            generator.writeObjectFieldStart(jsonKey(algorithms.get(a)));
+            writeEdges(result);
+            generator.writeNumberField("total_cost", result.getTotalCost());
+            generator.writeNumberField("operations_count", result.getOperationsCount());
+            generator.writeNumberField("execution_time_ms", result.getExecutionTimeMs());
+            writeComponents(result);
+            if (result.getPlannerChoice() != null) {
+                generator.writeStringField("planner_choice", result.getPlannerChoice());
+                generator.writeNumberField("estimated_time_ms", result.getEstimatedTimeMs());
+            }
+            writePhaseStats(result);
+            generator.writeEndObject();
+        }
+
+        generator.writeEndObject();
+        generator.flush();
+        commitWriteEvent(event, "json", run, algorithms);
+    }
+
+    static void commitWriteEvent(MSTEvents.ResultWriteEvent event, String format, GraphRunResult run,
+                                 List<MSTAlgorithm> algorithms) {
+        event.end();
+        if (event.shouldCommit()) {
+            StringJoiner names = new StringJoiner(",");
+            for (MSTAlgorithm algorithm : algorithms) names.add(algorithm.getName());
+            event.format = format;
+            event.graphId = run.getGraphId();
+            event.vertexCount = run.getVertexCount();
+            event.edgeCount = run.getEdgeCount();
+            event.algorithm = names.toString();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void end() throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        close();
+        System.out.println("✓ Results saved to: " + outputFile);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.close();
+            generator = null;
+        }
+    }
+
+    // "FilterKruskal" -> "filter_kruskal"
+    static String jsonKey(MSTAlgorithm algorithm) {
+        return algorithm.getName().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    // Per-component costs only matter (and are only written) for real forests
+    private void writeComponents(MSTResult result) throws IOException {
+        if (result.getComponentCount() < 0) return;
+        generator.writeNumberField("component_count", result.getComponentCount());
+        int[] costs = result.getComponentCosts();
+        if (costs != null && costs.length > 1) {
+            generator.writeFieldName("component_costs");
+            generator.writeArray(costs, 0, costs.length);
+        }
+    }
+
+    // Only present when the run had a PhaseStatsListener
+    private void writePhaseStats(MSTResult result) throws IOException {
+        if (result.getPhaseStats().isEmpty()) return;
+
+        generator.writeObjectFieldStart("phases");
+        for (Map.Entry<MSTPhase, PhaseStats> entry : result.getPhaseStats().entrySet()) {
+            PhaseStats stats = entry.getValue();
+            generator.writeObjectFieldStart(entry.getKey().name().toLowerCase(Locale.ROOT));
+            generator.writeNumberField("time_ms", stats.getTimeMs());
+            generator.writeNumberField("count", stats.getCount());
+            generator.writeNumberField("invocations", stats.getInvocations());
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeEdges(MSTResult result) throws IOException {
+        int[] edgeIds = result.getMstEdgeIds();
+        if (compactEdges && edgeIds != null) {
+            generator.writeFieldName("mst_edge_ids");
+            generator.writeArray(edgeIds, 0, edgeIds.length);
+            return;
+        }
+
+        generator.writeArrayFieldStart("mst_edges");
+        for (Graph.Edge edge : result.getMstEdges()) {
+            generator.writeStartObject();
+            generator.writeStringField("from", edge.from);
+            generator.writeStringField("to", edge.to);
+            generator.writeNumberField("weight", edge.weight);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+}
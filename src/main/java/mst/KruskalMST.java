@@ -1,101 +1,142 @@
 package mst;
 
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.*;
 
-public class KruskalMST {
-    private int operationsCount;
+public class KruskalMST implements MSTAlgorithm {
+    private MSTListener listener = MSTListener.NOOP;
 
-    public MSTResult findMST(Graph graph) {
-        operationsCount = 0;
+    @Override
+    public void setListener(MSTListener listener) {
+        this.listener = MSTListener.requireNonNull(listener);
+    }
 
-        System.out.printf("=== KRUSKAL START: n=%d, m=%d ===%n",
-                graph.getVertexCount(), graph.getEdges().size());
+    @Override
+    public boolean supportsEdgeStore() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Kruskal";
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph) {
+        if (graph.getEdgeStore() != null) {
+            return findMST(graph, graph.getEdgeStore());
+        }
+        int operationsCount;
+        int n = graph.getVertexCount();
+        int m = graph.getEdgeCount();
 
         long totalStart = System.nanoTime();
+        listener.runStart("Kruskal", n, m);
 
-        List<Graph.Edge> mstEdges = new ArrayList<>();
-        List<Graph.Edge> edges = graph.getEdges();
+        CSRGraph csr = graph.getCSR();
+        int[] sources = csr.edgeSources;
+        int[] destinations = csr.edgeTargets;
+        int[] weights = csr.edgeWeights;
 
-        // Phase 1: Sorting (should be O(m log m))
-        long sortStart = System.nanoTime();
-        List<Graph.Edge> sortedEdges = new ArrayList<>(edges);
-        sortedEdges.sort(Comparator.comparingInt(e -> e.weight));
-        long sortEnd = System.nanoTime();
-        double sortTime = (sortEnd - sortStart) / 1_000_000.0;
+        // Phase 1: Sorting (should be O(m log m), O(m + W) for a narrow weight range W)
+        // EdgeSorter picks counting or packed-long sorting and parallelizes large inputs;
+        // ties keep edge-id order, same as the stable object sort did
+        listener.phaseStart(MSTPhase.SORT);
+        int[] sortedEdges = EdgeSorter.sortedEdgeIds(weights);
+        listener.phaseEnd(MSTPhase.SORT, m);
 
         // Phase 2: Union-Find (should be O(m α(n)))
-        long ufStart = System.nanoTime();
-        UnionFind uf = new UnionFind(graph.getVertices());
+        listener.phaseStart(MSTPhase.UNION_FIND);
+        UnionFind uf = new UnionFind(n);
+        int[] mstEdgeIds = new int[Math.max(n - 1, 0)];
+        int mstSize = 0;
+        int totalCost = 0;
         int unionsPerformed = 0;
+        int edgesScanned = 0;
 
-        for (Graph.Edge edge : sortedEdges) {
-            if (mstEdges.size() == graph.getVertexCount() - 1) break;
+        for (int e : sortedEdges) {
+            if (mstSize == n - 1) break;
+            edgesScanned++;
 
-            String root1 = uf.find(edge.from);
-            String root2 = uf.find(edge.to);
+            int root1 = uf.find(sources[e]);
+            int root2 = uf.find(destinations[e]);
 
-            if (!root1.equals(root2)) {
-                mstEdges.add(edge);
-                uf.union(edge.from, edge.to);
+            if (root1 != root2) {
+                mstEdgeIds[mstSize++] = e;
+                totalCost += weights[e];
+                uf.unionRoots(root1, root2);
                 unionsPerformed++;
             }
         }
-        long ufEnd = System.nanoTime();
-        double ufTime = (ufEnd - ufStart) / 1_000_000.0;
+        listener.phaseEnd(MSTPhase.UNION_FIND, edgesScanned);
 
         long totalEnd = System.nanoTime();
         double totalTime = (totalEnd - totalStart) / 1_000_000.0;
 
-        System.out.printf("KRUSKAL TIMING: sort=%.2fms, uf=%.2fms, total=%.2fms, unions=%d%n",
-                sortTime, ufTime, totalTime, unionsPerformed);
-        System.out.printf("=== KRUSKAL END ===%n%n");
-
         // Calculate operations count
-        operationsCount = edges.size() * (int)(Math.log(edges.size()) / Math.log(2)) // sort
-                + edges.size() * 2 // find operations
+        operationsCount = m * (int)(Math.log(m) / Math.log(2)) // sort
+                + m * 2 // find operations
                 + unionsPerformed; // union operations
 
-        int totalCost = mstEdges.stream().mapToInt(e -> e.weight).sum();
-
-        return new MSTResult("Kruskal", mstEdges, totalCost, totalTime, operationsCount);
+        mstEdgeIds = Arrays.copyOf(mstEdgeIds, mstSize);
+        MSTResult result = new MSTResult("Kruskal", graph.edgesById(mstEdgeIds), mstEdgeIds, totalCost,
+                totalTime, operationsCount);
+        // A forest: one tree per connected component
+        result.setComponents(uf.getComponentCount(), null);
+        listener.runEnd(result);
+        return result;
     }
 
-    private static class UnionFind {
-        private Map<String, String> parent;
-        private Map<String, Integer> rank;
+    // Same algorithm straight over an off-heap store: the sorted ids live off-heap
+    // too, so the heap only holds the UnionFind and the result (O(n), not O(m))
+    private MSTResult findMST(Graph graph, OffHeapEdgeStore store) {
+        int n = graph.getVertexCount();
+        int m = store.size();
 
-        public UnionFind(List<String> vertices) {
-            parent = new HashMap<>();
-            rank = new HashMap<>();
-            for (String vertex : vertices) {
-                parent.put(vertex, vertex);
-                rank.put(vertex, 0);
-            }
-        }
+        long totalStart = System.nanoTime();
+        listener.runStart("Kruskal", n, m);
 
-        public String find(String x) {
-            // Path compression
-            if (!parent.get(x).equals(x)) {
-                parent.put(x, find(parent.get(x)));
-            }
-            return parent.get(x);
-        }
+        listener.phaseStart(MSTPhase.SORT);
+        ByteBuffer sortedBytes = store.sortedEdgeIds();
+        listener.phaseEnd(MSTPhase.SORT, m);
 
-        public void union(String x, String y) {
-            String rootX = find(x);
-            String rootY = find(y);
-
-            if (!rootX.equals(rootY)) {
-                // Union by rank
-                if (rank.get(rootX) < rank.get(rootY)) {
-                    parent.put(rootX, rootY);
-                } else if (rank.get(rootX) > rank.get(rootY)) {
-                    parent.put(rootY, rootX);
-                } else {
-                    parent.put(rootY, rootX);
-                    rank.put(rootX, rank.get(rootX) + 1);
+        listener.phaseStart(MSTPhase.UNION_FIND);
+        UnionFind uf = new UnionFind(n);
+        int[] mstEdgeIds = new int[Math.max(n - 1, 0)];
+        int mstSize = 0;
+        int totalCost = 0;
+        int unionsPerformed = 0;
+        int edgesScanned = 0;
+        try {
+            IntBuffer sortedEdges = sortedBytes.asIntBuffer();
+            for (int i = 0; i < m && mstSize < n - 1; i++) {
+                int e = sortedEdges.get(i);
+                edgesScanned++;
+
+                int root1 = uf.find(store.from(e));
+                int root2 = uf.find(store.to(e));
+
+                if (root1 != root2) {
+                    mstEdgeIds[mstSize++] = e;
+                    totalCost += store.weight(e);
+                    uf.unionRoots(root1, root2);
+                    unionsPerformed++;
                 }
             }
+        } finally {
+            OffHeapEdgeStore.release(sortedBytes);
         }
+        listener.phaseEnd(MSTPhase.UNION_FIND, edgesScanned);
+
+        double totalTime = (System.nanoTime() - totalStart) / 1_000_000.0;
+        int operationsCount = m * (int)(Math.log(m) / Math.log(2)) + m * 2 + unionsPerformed;
+
+        mstEdgeIds = Arrays.copyOf(mstEdgeIds, mstSize);
+        MSTResult result = new MSTResult("Kruskal", graph.edgesById(mstEdgeIds), mstEdgeIds, totalCost,
+                totalTime, operationsCount);
+        result.setComponents(uf.getComponentCount(), null);
+        listener.runEnd(result);
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package mst;
+
+// Open-addressing set of primitive longs (linear probing, power-of-two table,
+// load factor 0.5), for GraphGenerator's packed edge keys. add and contains never
+// box, and every long value, Long.MIN_VALUE included, can be stored.
+final class LongHashSet {
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] table;
+    private int size;
+    private boolean containsEmptyKey;
+
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        table = new long[capacity];
+        java.util.Arrays.fill(table, EMPTY);
+    }
+
+    // Returns true if the key was not already present
+    boolean add(long key) {
+        if (key == EMPTY) {
+            if (containsEmptyKey) return false;
+            containsEmptyKey = true;
+            size++;
+            return true;
+        }
+        int mask = table.length - 1;
+        int slot = mix(key) & mask;
+        while (true) {
+            long current = table[slot];
+            if (current == EMPTY) break;
+            if (current == key) return false;
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = key;
+        if (++size > table.length * LOAD_FACTOR) {
+            grow();
+        }
+        return true;
+    }
+
+    boolean contains(long key) {
+        if (key == EMPTY) return containsEmptyKey;
+        int mask = table.length - 1;
+        int slot = mix(key) & mask;
+        while (true) {
+            long current = table[slot];
+            if (current == EMPTY) return false;
+            if (current == key) return true;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    // Packs an unordered vertex pair so (u, v) and (v, u) give the same key
+    static long edgeKey(int u, int v) {
+        int low = Math.min(u, v);
+        int high = Math.max(u, v);
+        return ((long) low << 32) | (high & 0xFFFFFFFFL);
+    }
+
+    private void grow() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        java.util.Arrays.fill(table, EMPTY);
+        int mask = table.length - 1;
+        for (long key : old) {
+            if (key == EMPTY) continue;
+            int slot = mix(key) & mask;
+            while (table[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = key;
+        }
+    }
+
+    // MurmurHash3 fmix64 finalizer; spreads packed (low, high) ids across the table
+    private static int mix(long key) {
+        key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+        key = (key ^ (key >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (int) (key ^ (key >>> 33));
+    }
+}
@@ -0,0 +1,21 @@
+package mst;
+
+// Common contract of the MST engines so callers can run them interchangeably
+public interface MSTAlgorithm {
+    String getName();
+
+    MSTResult findMST(Graph graph);
+
+    // Instrumentation hooks for subsequent findMST calls (MSTListener.NOOP to turn off).
+    // Engines without instrumentation ignore the listener, so installing one on a
+    // mixed set of algorithms (MSTTester, MSTSolver) is always safe.
+    default void setListener(MSTListener listener) {
+        MSTListener.requireNonNull(listener);
+    }
+
+    // Whether findMST reads a store-backed graph (Graph.fromStore) in place.
+    // Engines that return false reject such graphs instead of copying them to the heap.
+    default boolean supportsEdgeStore() {
+        return false;
+    }
+}
@@ -0,0 +1,113 @@
+package mst;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// Java Flight Recorder events, shown under "MST" in JMC next to the GC and
+// allocation events. Loader, adjacency, Prim heap and serialization events are
+// emitted directly by the code they time; run and phase events come from
+// JfrMSTListener. While no recording has them enabled, begin()/commit() are
+// no-ops after the JIT is done, so the events stay in place permanently.
+//
+//   java -XX:StartFlightRecording=filename=mst.jfr ... mst.Main
+final class MSTEvents {
+
+    private MSTEvents() {}
+
+    // Fields shared by every event; algorithm is null for loader events
+    @Category("MST")
+    @StackTrace(false)
+    abstract static class MSTEvent extends Event {
+        @Label("Vertices")
+        int vertexCount;
+
+        @Label("Edges")
+        int edgeCount;
+
+        @Label("Algorithm")
+        String algorithm;
+    }
+
+    @Name("mst.GraphParse")
+    @Label("Graph Parse")
+    @Description("Reading one graph from a JSON or binary graph file")
+    static final class GraphParseEvent extends MSTEvent {
+        @Label("Format")
+        String format;
+    }
+
+    @Name("mst.GraphValidate")
+    @Label("Graph Validate")
+    @Description("Vertex lookup and duplicate-edge checks of a parsed graph, including Graph construction")
+    static final class GraphValidateEvent extends MSTEvent {
+        @Label("Format")
+        String format;
+    }
+
+    @Name("mst.AdjacencyBuild")
+    @Label("Adjacency Build")
+    @Description("Building a graph's adjacency map or CSR view")
+    static final class AdjacencyBuildEvent extends MSTEvent {
+        @Label("Layout")
+        String layout;
+    }
+
+    @Name("mst.Run")
+    @Label("MST Run")
+    static final class RunEvent extends MSTEvent {
+        @Label("Total Cost")
+        long totalCost;
+
+        @Label("Components")
+        int componentCount;
+    }
+
+    @Name("mst.Phase")
+    @Label("MST Phase")
+    @Description("One engine phase; per-vertex phases are summed into one event per run")
+    static final class PhaseEvent extends MSTEvent {
+        @Label("Phase")
+        String phase;
+
+        @Label("Work Count")
+        long count;
+
+        @Label("Invocations")
+        long invocations;
+
+        // Time inside the phase; less than the event duration for summed phases
+        @Label("Phase Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long phaseNanos;
+    }
+
+    @Name("mst.PrimHeap")
+    @Label("Prim Heap")
+    @Description("Heap traffic of one Prim run")
+    static final class PrimHeapEvent extends MSTEvent {
+        @Label("Heap Arity")
+        int heapArity;
+
+        @Label("Polls")
+        long polls;
+
+        @Label("Inserts Or Decreases")
+        long updates;
+    }
+
+    @Name("mst.ResultWrite")
+    @Label("Result Write")
+    @Description("Serializing the results of one graph to a report; algorithm lists every engine")
+    static final class ResultWriteEvent extends MSTEvent {
+        @Label("Format")
+        String format;
+
+        @Label("Graph Id")
+        int graphId;
+    }
+}
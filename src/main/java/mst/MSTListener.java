@@ -0,0 +1,61 @@
+package mst;
+
+// Instrumentation hooks called by the MST engines.
+// Engines start with NOOP, so an uninstrumented run only pays for empty calls
+// the JIT inlines away; fine-grained phases (Prim's per-vertex heap and
+// relaxation steps) are skipped entirely unless a real listener is set.
+// A listener instance may be shared by engines running on several threads.
+public interface MSTListener {
+    MSTListener NOOP = new MSTListener() {};
+
+    default void runStart(String algorithm, int vertexCount, int edgeCount) {}
+
+    default void phaseStart(MSTPhase phase) {}
+
+    // count is the amount of work done in the phase (edges sorted, vertices polled, ...)
+    default void phaseEnd(MSTPhase phase, long count) {}
+
+    // Called once the result is built and timed; may attach data to it
+    default void runEnd(MSTResult result) {}
+
+    // The null check every MSTAlgorithm.setListener applies before storing a listener
+    static MSTListener requireNonNull(MSTListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null (use MSTListener.NOOP)");
+        }
+        return listener;
+    }
+
+    // Forwards every callback to first, then second; NOOP operands are dropped
+    static MSTListener combine(MSTListener first, MSTListener second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        if (first == NOOP) return second;
+        if (second == NOOP) return first;
+        return new MSTListener() {
+            @Override
+            public void runStart(String algorithm, int vertexCount, int edgeCount) {
+                first.runStart(algorithm, vertexCount, edgeCount);
+                second.runStart(algorithm, vertexCount, edgeCount);
+            }
+
+            @Override
+            public void phaseStart(MSTPhase phase) {
+                first.phaseStart(phase);
+                second.phaseStart(phase);
+            }
+
+            @Override
+            public void phaseEnd(MSTPhase phase, long count) {
+                first.phaseEnd(phase, count);
+                second.phaseEnd(phase, count);
+            }
+
+            @Override
+            public void runEnd(MSTResult result) {
+                first.runEnd(result);
+                second.runEnd(result);
+            }
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package mst;
+
+// Phases reported to an MSTListener. Not every engine has every phase.
+public enum MSTPhase {
+    SORT,           // ordering edges by weight (Kruskal, Filter-Kruskal base cases)
+    PARTITION,      // splitting an edge range around a pivot weight (Filter-Kruskal)
+    FILTER,         // dropping edges whose endpoints are already connected (Filter-Kruskal)
+    UNION_FIND,     // find/union pass over candidate edges
+    HEAP,           // picking the next vertex (Prim's heap poll, PrimDense's min-scan)
+    RELAXATION,     // scanning edges to improve tentative minimums (Prim rows, Borůvka cheapest edges)
+    CONTRACTION,    // relabelling vertices and compacting edges after a Borůvka round
+    MERGE,          // intermediate k-way merge passes over sorted runs (ExternalKruskal)
+    SHARD           // solving each shard's spanning forest independently (Sharded)
+}
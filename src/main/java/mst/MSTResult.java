@@ -1,13 +1,19 @@
 package mst;
 
-import java.util.List;
+import java.util.*;
 
 public class MSTResult {
     private String algorithm;
     private List<Graph.Edge> mstEdges;
+    private int[] mstEdgeIds;
     private int totalCost;
     private double executionTimeMs;
     private int operationsCount;
+    private Map<MSTPhase, PhaseStats> phaseStats = Collections.emptyMap();
+    private int componentCount = -1;
+    private int[] componentCosts;
+    private String plannerChoice;
+    private double estimatedTimeMs = Double.NaN;
 
     public MSTResult(String algorithm, List<Graph.Edge> mstEdges, int totalCost,
                      double executionTimeMs, int operationsCount) {
@@ -18,10 +24,46 @@ public class MSTResult {
         this.operationsCount = operationsCount;
     }
 
+    public MSTResult(String algorithm, List<Graph.Edge> mstEdges, int[] mstEdgeIds, int totalCost,
+                     double executionTimeMs, int operationsCount) {
+        this(algorithm, mstEdges, totalCost, executionTimeMs, operationsCount);
+        this.mstEdgeIds = mstEdgeIds;
+    }
+
     // Getters
     public String getAlgorithm() { return algorithm; }
+    // null when the engine worked from an edge file without vertex names (listeners only)
     public List<Graph.Edge> getMstEdges() { return mstEdges; }
+    // Positions of the MST edges in Graph.getEdges(), or null if the engine did not record them
+    public int[] getMstEdgeIds() { return mstEdgeIds; }
     public int getTotalCost() { return totalCost; }
     public double getExecutionTimeMs() { return executionTimeMs; }
     public int getOperationsCount() { return operationsCount; }
-}
\ No newline at end of file
+    // Per-phase breakdown filled in by a PhaseStatsListener; empty when none was set
+    public Map<MSTPhase, PhaseStats> getPhaseStats() { return phaseStats; }
+
+    public void setPhaseStats(Map<MSTPhase, PhaseStats> phaseStats) {
+        this.phaseStats = Collections.unmodifiableMap(phaseStats);
+    }
+
+    // Trees in the spanning forest (1 for a connected graph), or -1 if the engine
+    // did not report it
+    public int getComponentCount() { return componentCount; }
+    // Cost of each component's tree, ordered by the component's lowest vertex id;
+    // null unless the engine grows trees component by component
+    public int[] getComponentCosts() { return componentCosts; }
+
+    public void setComponents(int componentCount, int[] componentCosts) {
+        this.componentCount = componentCount;
+        this.componentCosts = componentCosts;
+    }
+
+    // Set by MSTSolver: the engine it picked and the time its cost model predicted
+    public String getPlannerChoice() { return plannerChoice; }
+    public double getEstimatedTimeMs() { return estimatedTimeMs; }
+
+    public void setPlan(String plannerChoice, double estimatedTimeMs) {
+        this.plannerChoice = plannerChoice;
+        this.estimatedTimeMs = estimatedTimeMs;
+    }
+}
@@ -0,0 +1,268 @@
+package mst;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+// Cache of MST results keyed by (GraphFingerprint, algorithm name).
+//
+// The memory tier is an access-ordered LinkedHashMap evicting least recently
+// used entries once their total weight (approximate bytes: edge ids plus fixed
+// overhead) exceeds the budget. Entries keep only edge ids and scalars; MST
+// edges are resolved against the caller's graph on every hit, so the cache does
+// not pin old graphs. The optional disk tier writes one small file per entry
+// (under results/cache by default in Main) and is consulted on memory misses,
+// so results survive across runs. Disk files are never evicted.
+//
+// A hit returns the originally measured time and operation count. Results
+// without edge ids are returned but not cached. All methods are thread-safe.
+public class MSTResultCache {
+    private static final int FILE_MAGIC = 0x4D535443;
+    private static final int FILE_VERSION = 2;
+    private static final String FILE_EXTENSION = ".mstc";
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private final long maxWeightBytes;
+    private final Path diskDirectory;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    private long hits;
+    private long diskHits;
+    private long misses;
+    private long evictions;
+
+    public MSTResultCache(long maxWeightBytes) {
+        this(maxWeightBytes, null);
+    }
+
+    // diskDirectory may be null for a memory-only cache
+    public MSTResultCache(long maxWeightBytes, Path diskDirectory) {
+        if (maxWeightBytes < 0) {
+            throw new IllegalArgumentException("Cache size cannot be negative: " + maxWeightBytes);
+        }
+        this.maxWeightBytes = maxWeightBytes;
+        this.diskDirectory = diskDirectory;
+    }
+
+    // Cached result for this graph and algorithm, computing and storing it on a miss
+    public MSTResult computeIfAbsent(Graph graph, MSTAlgorithm algorithm) {
+        return computeIfAbsent(GraphFingerprint.of(graph), graph, algorithm);
+    }
+
+    // Variant for callers that run several algorithms on one graph and
+    // fingerprint it once
+    public MSTResult computeIfAbsent(GraphFingerprint fingerprint, Graph graph, MSTAlgorithm algorithm) {
+        MSTResult cached = get(fingerprint, graph, algorithm.getName());
+        if (cached != null) {
+            return cached;
+        }
+        // Computed outside the lock so concurrent graphs do not serialize on the cache
+        MSTResult result = algorithm.findMST(graph);
+        put(fingerprint, algorithm.getName(), result);
+        return result;
+    }
+
+    public MSTResult get(GraphFingerprint fingerprint, Graph graph, String algorithm) {
+        String key = key(fingerprint, algorithm);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null) {
+                hits++;
+                return entry.toResult(graph);
+            }
+        }
+
+        entry = readFromDisk(key, fingerprint, algorithm);
+        synchronized (this) {
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+            diskHits++;
+            store(key, entry);
+        }
+        return entry.toResult(graph);
+    }
+
+    public void put(GraphFingerprint fingerprint, String algorithm, MSTResult result) {
+        if (result.getMstEdgeIds() == null) {
+            return;
+        }
+        String key = key(fingerprint, algorithm);
+        Entry entry = new Entry(result);
+        synchronized (this) {
+            store(key, entry);
+        }
+        writeToDisk(key, fingerprint, algorithm, entry);
+    }
+
+    // Drops the memory tier; disk files are kept
+    public synchronized void clear() {
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized long getHitCount() { return hits; }
+    // Hits that were served by the disk tier (included in getHitCount)
+    public synchronized long getDiskHitCount() { return diskHits; }
+    public synchronized long getMissCount() { return misses; }
+    public synchronized long getEvictionCount() { return evictions; }
+    public synchronized int size() { return entries.size(); }
+    public synchronized long getWeightBytes() { return totalWeight; }
+
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public synchronized String statsSummary() {
+        return String.format("hits=%d (disk=%d), misses=%d, evictions=%d, entries=%d, %.1f KB",
+                hits, diskHits, misses, evictions, entries.size(), totalWeight / 1024.0);
+    }
+
+    private void store(String key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) totalWeight -= previous.weight;
+        totalWeight += entry.weight;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (totalWeight > maxWeightBytes && eldest.hasNext()) {
+            totalWeight -= eldest.next().weight;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static String key(GraphFingerprint fingerprint, String algorithm) {
+        return fingerprint.toHex() + "-" + algorithm;
+    }
+
+    private Path diskFile(String key) {
+        return diskDirectory.resolve(key + FILE_EXTENSION);
+    }
+
+    // Unreadable or mismatching files count as misses and are overwritten later
+    private Entry readFromDisk(String key, GraphFingerprint fingerprint, String algorithm) {
+        if (diskDirectory == null) return null;
+        Path file = diskFile(key);
+        if (!Files.isRegularFile(file)) return null;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) return null;
+            if (in.readLong() != fingerprint.getHigh() || in.readLong() != fingerprint.getLow()) return null;
+            if (!in.readUTF().equals(algorithm)) return null;
+
+            String resultAlgorithm = in.readUTF();
+            int totalCost = in.readInt();
+            double timeMs = in.readDouble();
+            int operations = in.readInt();
+            String plannerChoice = in.readBoolean() ? in.readUTF() : null;
+            double estimatedTimeMs = in.readDouble();
+            int componentCount = in.readInt();
+            int[] componentCosts = in.readBoolean() ? readInts(in) : null;
+            int[] edgeIds = readInts(in);
+            return new Entry(resultAlgorithm, edgeIds, totalCost, timeMs, operations, plannerChoice, estimatedTimeMs,
+                    componentCount, componentCosts);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // Written to a temporary file and moved into place so readers never see a partial entry
+    private void writeToDisk(String key, GraphFingerprint fingerprint, String algorithm, Entry entry) {
+        if (diskDirectory == null) return;
+        Path file = diskFile(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(diskDirectory);
+            temp = Files.createTempFile(diskDirectory, key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeLong(fingerprint.getHigh());
+                out.writeLong(fingerprint.getLow());
+                out.writeUTF(algorithm);
+                out.writeUTF(entry.algorithm);
+                out.writeInt(entry.totalCost);
+                out.writeDouble(entry.timeMs);
+                out.writeInt(entry.operations);
+                out.writeBoolean(entry.plannerChoice != null);
+                if (entry.plannerChoice != null) out.writeUTF(entry.plannerChoice);
+                out.writeDouble(entry.estimatedTimeMs);
+                out.writeInt(entry.componentCount);
+                out.writeBoolean(entry.componentCosts != null);
+                if (entry.componentCosts != null) writeInts(out, entry.componentCosts);
+                writeInts(out, entry.edgeIds);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The disk tier is best effort; the memory tier already has the entry
+            System.err.println("⚠️ Could not write cache entry " + file + ": " + e.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) values[i] = in.readInt();
+        return values;
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) out.writeInt(value);
+    }
+
+    private static final class Entry {
+        final String algorithm;
+        final int[] edgeIds;
+        final int totalCost;
+        final double timeMs;
+        final int operations;
+        final String plannerChoice;
+        final double estimatedTimeMs;
+        final int componentCount;
+        final int[] componentCosts;
+        final long weight;
+
+        Entry(MSTResult result) {
+            this(result.getAlgorithm(), result.getMstEdgeIds().clone(), result.getTotalCost(),
+                    result.getExecutionTimeMs(), result.getOperationsCount(),
+                    result.getPlannerChoice(), result.getEstimatedTimeMs(), result.getComponentCount(),
+                    result.getComponentCosts() == null ? null : result.getComponentCosts().clone());
+        }
+
+        Entry(String algorithm, int[] edgeIds, int totalCost, double timeMs, int operations,
+              String plannerChoice, double estimatedTimeMs, int componentCount, int[] componentCosts) {
+            this.algorithm = algorithm;
+            this.edgeIds = edgeIds;
+            this.totalCost = totalCost;
+            this.timeMs = timeMs;
+            this.operations = operations;
+            this.plannerChoice = plannerChoice;
+            this.estimatedTimeMs = estimatedTimeMs;
+            this.componentCount = componentCount;
+            this.componentCosts = componentCosts;
+            this.weight = ENTRY_OVERHEAD_BYTES + 4L * edgeIds.length
+                    + (componentCosts == null ? 0 : 4L * componentCosts.length);
+        }
+
+        MSTResult toResult(Graph graph) {
+            MSTResult result = new MSTResult(algorithm, graph.edgesById(edgeIds), edgeIds.clone(), totalCost,
+                    timeMs, operations);
+            if (plannerChoice != null) {
+                result.setPlan(plannerChoice, estimatedTimeMs);
+            }
+            result.setComponents(componentCount, componentCosts == null ? null : componentCosts.clone());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package mst;
+
+import java.util.*;
+
+// Picks the engine with the lowest CostModel estimate for each graph and runs it.
+// The returned MSTResult is the chosen engine's, annotated with the planner's
+// choice and estimate (getPlannerChoice, getEstimatedTimeMs) so decisions can be
+// checked against measured times.
+public class MSTSolver implements MSTAlgorithm {
+    private final CostModel costModel;
+    private final List<MSTAlgorithm> engines;
+
+    public MSTSolver() {
+        this(CostModel.defaults());
+    }
+
+    public MSTSolver(CostModel costModel) {
+        this(costModel, defaultEngines());
+    }
+
+    // Every engine must be one the cost model knows (see CostModel.ENGINES)
+    public MSTSolver(CostModel costModel, List<MSTAlgorithm> engines) {
+        if (costModel == null) {
+            throw new IllegalArgumentException("Cost model cannot be null");
+        }
+        if (engines == null || engines.isEmpty()) {
+            throw new IllegalArgumentException("At least one engine is required");
+        }
+        for (MSTAlgorithm engine : engines) {
+            costModel.getNanosPerStep(engine.getName());
+        }
+        this.costModel = costModel;
+        this.engines = new ArrayList<>(engines);
+    }
+
+    static List<MSTAlgorithm> defaultEngines() {
+        return Arrays.asList(new PrimMST(), new DensePrimMST(), new KruskalMST(),
+                new FilterKruskalMST(), new BoruvkaMST());
+    }
+
+    public CostModel getCostModel() { return costModel; }
+
+    @Override
+    public String getName() {
+        return "Auto";
+    }
+
+    @Override
+    public void setListener(MSTListener listener) {
+        for (MSTAlgorithm engine : engines) {
+            engine.setListener(listener);
+        }
+    }
+
+    @Override
+    public boolean supportsEdgeStore() {
+        for (MSTAlgorithm engine : engines) {
+            if (engine.supportsEdgeStore()) return true;
+        }
+        return false;
+    }
+
+    // The engine that would run for this graph, without running it
+    public MSTAlgorithm choose(Graph graph) {
+        return plan(graph).engine;
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph) {
+        Plan plan = plan(graph);
+        MSTResult result = plan.engine.findMST(graph);
+        result.setPlan(plan.engine.getName(), plan.estimatedTimeMs);
+        return result;
+    }
+
+    // Store-backed graphs only go to engines that read the store in place
+    private Plan plan(Graph graph) {
+        CostModel.GraphProfile profile = CostModel.GraphProfile.of(graph);
+        boolean storeBacked = graph.getEdgeStore() != null;
+        MSTAlgorithm best = null;
+        double bestEstimate = Double.MAX_VALUE;
+        for (MSTAlgorithm engine : engines) {
+            if (storeBacked && !engine.supportsEdgeStore()) continue;
+            double estimate = costModel.estimateTimeMs(engine.getName(), profile);
+            if (best == null || estimate < bestEstimate) {
+                best = engine;
+                bestEstimate = estimate;
+            }
+        }
+        if (best == null) {
+            throw new IllegalArgumentException("No engine of " + getName() + " supports store-backed graphs");
+        }
+        return new Plan(best, bestEstimate);
+    }
+
+    private static final class Plan {
+        final MSTAlgorithm engine;
+        final double estimatedTimeMs;
+
+        Plan(MSTAlgorithm engine, double estimatedTimeMs) {
+            this.engine = engine;
+            this.estimatedTimeMs = estimatedTimeMs;
+        }
+    }
+}
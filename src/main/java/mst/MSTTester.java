@@ -1,137 +1,242 @@
 package mst;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class MSTTester {
-    private final PrimMST prim;
-    private final KruskalMST kruskal;
-    private final ObjectMapper mapper;
+    private final List<MSTAlgorithm> algorithms;
+
+    // Concurrent execution (see setParallelism): 1 runs every graph on the calling thread
+    private int parallelism = 1;
+    private boolean virtualThreads;
+    private boolean timingIsolation = true;
+    private final ReentrantLock timingLock = new ReentrantLock();
+    private MSTResultCache cache;
 
     public MSTTester() {
-        this.prim = new PrimMST();
-        this.kruskal = new KruskalMST();
-        this.mapper = new ObjectMapper();
+        this(Arrays.asList(new PrimMST(), new KruskalMST()));
     }
 
-    public void testAllGraphs(String inputFile, String outputFile) throws IOException {
-        List<Graph> graphs = GraphLoader.loadGraphsFromFile(inputFile);
-        ArrayNode results = mapper.createArrayNode();
-
-        for (int i = 0; i < graphs.size(); i++) {
-            Graph graph = graphs.get(i);
-            System.out.println("Testing Graph " + (i + 1) + " - Vertices: " +
-                    graph.getVertexCount() + ", Edges: " + graph.getEdgeCount());
-
-            MSTResult primResult = prim.findMST(graph);
-            MSTResult kruskalResult = kruskal.findMST(graph);
-
-            // DEBUG: Print actual times before saving
-            System.out.printf("ACTUAL TIMES - Prim: %.2fms, Kruskal: %.2fms%n",
-                    primResult.getExecutionTimeMs(), kruskalResult.getExecutionTimeMs());
-
-
-            ObjectNode resultNode = mapper.createObjectNode();
-            resultNode.put("graph_id", i + 1);
-
-            // Input stats
-            ObjectNode inputStats = mapper.createObjectNode();
-            inputStats.put("vertices", graph.getVertexCount());
-            inputStats.put("edges", graph.getEdgeCount());
-            resultNode.set("input_stats", inputStats);
-
-            // Prim results
-            ObjectNode primNode = mapper.createObjectNode();
-            primNode.set("mst_edges", createEdgesArray(primResult.getMstEdges()));
-            primNode.put("total_cost", primResult.getTotalCost());
-            primNode.put("operations_count", primResult.getOperationsCount());
-            primNode.put("execution_time_ms", primResult.getExecutionTimeMs());
-            resultNode.set("prim", primNode);
-
-            // Kruskal results
-            ObjectNode kruskalNode = mapper.createObjectNode();
-            kruskalNode.set("mst_edges", createEdgesArray(kruskalResult.getMstEdges()));
-            kruskalNode.put("total_cost", kruskalResult.getTotalCost());
-            kruskalNode.put("operations_count", kruskalResult.getOperationsCount());
-            kruskalNode.put("execution_time_ms", kruskalResult.getExecutionTimeMs());
-            resultNode.set("kruskal", kruskalNode);
-
-            results.add(resultNode);
+    // Algorithms are reported in the given order; each one gets its own JSON
+    // object (keyed by the snake_case name) and its own CSV columns
+    public MSTTester(List<MSTAlgorithm> algorithms) {
+        if (algorithms == null || algorithms.isEmpty()) {
+            throw new IllegalArgumentException("At least one algorithm is required");
+        }
+        this.algorithms = new ArrayList<>(algorithms);
+    }
+
+    public List<MSTAlgorithm> getAlgorithms() {
+        return Collections.unmodifiableList(algorithms);
+    }
+
+    // Number of graphs processed concurrently. Graphs are scheduled largest-first
+    // (by edge count) so one huge graph does not end up running alone at the end;
+    // results are still reported in graph_id order.
+    // Values above 1 give up streaming: the whole input file is loaded up front
+    // (GraphLoader.loadGraphsFromFile), so every graph is held in memory at once.
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    // Run graph tasks on virtual threads (Java 21+) instead of a fixed platform pool.
+    // Concurrency is still capped at the configured parallelism.
+    public void setUseVirtualThreads(boolean virtualThreads) {
+        if (virtualThreads && virtualThreadFactory() == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
         }
+        this.virtualThreads = virtualThreads;
+    }
 
-        ObjectNode output = mapper.createObjectNode();
-        output.set("results", results);
+    // Timing isolation (default on): with parallelism > 1 the timed findMST calls
+    // still run one at a time, while loading, CSR preparation and output building
+    // overlap. execution_time_ms then stays comparable with a sequential run.
+    // Turning it off maximizes throughput, but every reported time then includes
+    // contention from the other graphs running on the same cores.
+    public void setTimingIsolation(boolean timingIsolation) {
+        this.timingIsolation = timingIsolation;
+    }
 
-        // Ensure directory exists
-        File outputFileObj = new File(outputFile);
-        File parentDir = outputFileObj.getParentFile();
-        if (parentDir != null && !parentDir.exists()) {
-            parentDir.mkdirs();
+    // Installs the listener on every algorithm, e.g. a PhaseStatsListener to get
+    // per-phase timings in the results (MSTListener.NOOP turns it off again)
+    public void setListener(MSTListener listener) {
+        for (MSTAlgorithm algorithm : algorithms) {
+            algorithm.setListener(listener);
         }
+    }
+
+    // With a cache, a graph whose fingerprint was seen before (in this run or, with
+    // a disk tier, an earlier one) reuses the stored result of each algorithm
+    // instead of recomputing it; the stored time and operation count are reported
+    public void setCache(MSTResultCache cache) {
+        this.cache = cache;
+    }
 
-        mapper.writerWithDefaultPrettyPrinter().writeValue(outputFileObj, output);
-        System.out.println("✓ Results saved to: " + outputFile);
+    public MSTResultCache getCache() {
+        return cache;
+    }
+
+    public void testAllGraphs(String inputFile, String outputFile) throws IOException {
+        run(inputFile, Collections.singletonList(new JsonResultSink(outputFile)));
     }
 
     public void generateCSVSummary(String inputFile, String outputFile) throws IOException {
-        List<Graph> graphs = GraphLoader.loadGraphsFromFile(inputFile);
-        List<String[]> csvData = new ArrayList<>();
-        csvData.add(new String[]{
-                "GraphId", "Vertices", "Edges",
-                "PrimCost", "KruskalCost", "PrimTime(ms)", "KruskalTime(ms)",
-                "PrimOperations", "KruskalOperations"
-        });
-
-        // Create NEW instances to avoid any caching
-        PrimMST freshPrim = new PrimMST();
-        KruskalMST freshKruskal = new KruskalMST();
-
-        for (int i = 0; i < graphs.size(); i++) {
-            Graph graph = graphs.get(i);
-
-            System.out.printf("CSV Generation - Testing Graph %d: ", i + 1);
-            MSTResult primResult = freshPrim.findMST(graph);
-            MSTResult kruskalResult = freshKruskal.findMST(graph);
-
-            System.out.printf("Prim: %.2fms, Kruskal: %.2fms%n",
-                    primResult.getExecutionTimeMs(), kruskalResult.getExecutionTimeMs());
-
-            csvData.add(new String[]{
-                    String.valueOf(i + 1),
-                    String.valueOf(graph.getVertexCount()),
-                    String.valueOf(graph.getEdgeCount()),
-                    String.valueOf(primResult.getTotalCost()),
-                    String.valueOf(kruskalResult.getTotalCost()),
-                    String.format("%.2f", primResult.getExecutionTimeMs()),
-                    String.format("%.2f", kruskalResult.getExecutionTimeMs()),
-                    String.valueOf(primResult.getOperationsCount()),
-                    String.valueOf(kruskalResult.getOperationsCount())
-            });
+        run(inputFile, Collections.singletonList(new CsvResultSink(outputFile)));
+    }
+
+    // JSON report and CSV summary from a single load and a single run of each algorithm
+    public void runCategory(String inputFile, String jsonOutputFile, String csvOutputFile) throws IOException {
+        run(inputFile, Arrays.asList(new JsonResultSink(jsonOutputFile), new CsvResultSink(csvOutputFile)));
+    }
+
+    // One pass over the input: each graph is loaded once, each algorithm runs once,
+    // and every result is fanned out to all sinks in graph_id order
+    public void run(String inputFile, List<? extends ResultSink> sinks) throws IOException {
+        try {
+            for (ResultSink sink : sinks) {
+                sink.begin(getAlgorithms());
+            }
+            if (parallelism == 1) {
+                runSequential(inputFile, sinks);
+            } else {
+                runParallel(GraphLoader.loadGraphsFromFile(inputFile), sinks);
+            }
+            for (ResultSink sink : sinks) {
+                sink.end();
+            }
+        } finally {
+            closeAll(sinks);
+        }
+    }
+
+    // Streams the input so only the graph being processed is held in memory
+    private void runSequential(String inputFile, List<? extends ResultSink> sinks) throws IOException {
+        try (GraphLoader.GraphIterator graphs = GraphLoader.openGraphs(inputFile)) {
+            int graphId = 0;
+            while (graphs.hasNextGraph()) {
+                Graph graph = graphs.nextGraph();
+                publish(++graphId, graph, runAlgorithms(graph), sinks);
+            }
+        }
+    }
+
+    private void publish(int graphId, Graph graph, List<MSTResult> graphResults,
+                         List<? extends ResultSink> sinks) throws IOException {
+        GraphRunResult run = new GraphRunResult(graphId, graph.getVertexCount(), graph.getEdgeCount(), graphResults);
+        for (ResultSink sink : sinks) {
+            sink.accept(run);
+        }
+    }
+
+    private static void closeAll(List<? extends ResultSink> sinks) throws IOException {
+        IOException failure = null;
+        for (ResultSink sink : sinks) {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+            }
         }
+        if (failure != null) throw failure;
+    }
+
+    // Graphs run concurrently but are published in input order: each future is
+    // awaited in turn, so sinks see graph 1 first even if it finishes last
+    private void runParallel(List<Graph> graphs, List<? extends ResultSink> sinks) throws IOException {
+        // Largest-first submission order
+        Integer[] order = new Integer[graphs.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Integer.compare(graphs.get(b).getEdgeCount(), graphs.get(a).getEdgeCount()));
+
+        ExecutorService executor = newExecutor();
+        // The fixed platform pool already caps concurrency; the virtual-thread
+        // executor starts every task at once, so it needs the permits
+        Semaphore permits = virtualThreads ? new Semaphore(parallelism) : null;
+        try {
+            List<Future<List<MSTResult>>> futures = new ArrayList<>(Collections.nCopies(graphs.size(), null));
+            for (int index : order) {
+                Graph graph = graphs.get(index);
+                if (permits == null) {
+                    futures.set(index, executor.submit(() -> runAlgorithms(graph)));
+                    continue;
+                }
+                futures.set(index, executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return runAlgorithms(graph);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (int i = 0; i < graphs.size(); i++) {
+                publish(i + 1, graphs.get(i), futures.get(i).get(), sinks);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running graphs", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IOException("Graph run failed", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-        // Write CSV
-        try (var writer = new java.io.FileWriter(outputFile)) {
-            for (String[] row : csvData) {
-                writer.write(String.join(",", row) + "\n");
+    private List<MSTResult> runAlgorithms(Graph graph) {
+        // Build the shared CSR view up front so the first engine is not charged for it
+        graph.getCSR();
+        MSTResultCache cache = this.cache;
+        GraphFingerprint fingerprint = cache == null ? null : GraphFingerprint.of(graph);
+
+        List<MSTResult> graphResults = new ArrayList<>(algorithms.size());
+        for (MSTAlgorithm algorithm : algorithms) {
+            MSTResult result = cache == null ? null : cache.get(fingerprint, graph, algorithm.getName());
+            if (result == null) {
+                result = timedRun(algorithm, graph);
+                if (cache != null) cache.put(fingerprint, algorithm.getName(), result);
             }
+            graphResults.add(result);
         }
+        return graphResults;
+    }
+
+    private MSTResult timedRun(MSTAlgorithm algorithm, Graph graph) {
+        boolean isolate = timingIsolation && parallelism > 1;
+        if (isolate) timingLock.lock();
+        try {
+            return algorithm.findMST(graph);
+        } finally {
+            if (isolate) timingLock.unlock();
+        }
+    }
 
-        System.out.println("✓ CSV summary saved to: " + outputFile);
+    private ExecutorService newExecutor() {
+        if (virtualThreads) {
+            try {
+                return (ExecutorService) virtualThreadFactory().invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot create virtual thread executor", e);
+            }
+        }
+        return Executors.newFixedThreadPool(parallelism);
     }
 
-    private ArrayNode createEdgesArray(List<Graph.Edge> edges) {
-        ArrayNode edgesArray = mapper.createArrayNode();
-        for (Graph.Edge edge : edges) {
-            ObjectNode edgeNode = mapper.createObjectNode();
-            edgeNode.put("from", edge.from);
-            edgeNode.put("to", edge.to);
-            edgeNode.put("weight", edge.weight);
-            edgesArray.add(edgeNode);
+    // Executors.newVirtualThreadPerTaskExecutor is looked up reflectively so the
+    // project still compiles for Java 11
+    private static Method virtualThreadFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
         }
-        return edgesArray;
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,86 @@
 package mst;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.Supplier;
 
 public class Main {
+    // Engines selectable with -Dmst.engines=Prim,Kruskal,... (in report order)
+    private static final Map<String, Supplier<MSTAlgorithm>> ENGINES = new LinkedHashMap<>();
+    static {
+        ENGINES.put("Prim", PrimMST::new);
+        ENGINES.put("PrimDense", DensePrimMST::new);
+        ENGINES.put("Kruskal", KruskalMST::new);
+        ENGINES.put("FilterKruskal", FilterKruskalMST::new);
+        ENGINES.put("Boruvka", BoruvkaMST::new);
+        ENGINES.put("SpanningForest", SpanningForestMST::new);
+    }
+
     public static void main(String[] args) {
+        // mst.Main convert <graphs.json> <graphs.mstg>
+        if (args.length == 3 && "convert".equals(args[0])) {
+            convert(args[1], args[2]);
+            return;
+        }
+        // mst.Main external <edges file> [chunk edges]   (out-of-core Kruskal, see EdgeFile)
+        if ((args.length == 2 || args.length == 3) && "external".equals(args[0])) {
+            external(args[1], args.length == 3 ? Integer.parseInt(args[2]) : ExternalKruskalMST.DEFAULT_CHUNK_EDGES);
+            return;
+        }
+        // mst.Main sharded <edges file> <shards> [threads|processes]   (see ShardedMST)
+        if ((args.length == 3 || args.length == 4) && "sharded".equals(args[0])) {
+            ShardedMST.Workers workers = args.length == 4 && "processes".equals(args[3])
+                    ? ShardedMST.Workers.PROCESSES : ShardedMST.Workers.THREADS;
+            sharded(args[1], Integer.parseInt(args[2]), workers);
+            return;
+        }
+
         try {
             System.out.println("=== MST Algorithms Comparison ===");
             System.out.println("Starting performance analysis...");
 
-            MSTTester tester = new MSTTester();
+            // The default pair keeps a full run short; add engines by name
+            List<MSTAlgorithm> algorithms = selectEngines(System.getProperty("mst.engines", "Prim,Kruskal"));
+
+            // -Dmst.planner=true adds the "Auto" engine. Its cost model is calibrated
+            // once per machine and cached; delete the file (or point -Dmst.costModel
+            // elsewhere) to recalibrate
+            if (Boolean.getBoolean("mst.planner")) {
+                Path costModelFile = Paths.get(System.getProperty("mst.costModel", "results/cost_model.properties"));
+                if (!Files.exists(costModelFile)) {
+                    System.out.println("Calibrating planner cost model...");
+                }
+                algorithms.add(new MSTSolver(CostModel.loadOrCalibrate(costModelFile)));
+            }
+            MSTTester tester = new MSTTester(algorithms);
+
+            // -Dmst.parallelism=N runs N graphs at once; see MSTTester.setTimingIsolation
+            // for what -Dmst.timingIsolation=false does to the reported times
+            tester.setParallelism(Integer.getInteger("mst.parallelism", 1));
+            tester.setUseVirtualThreads(Boolean.getBoolean("mst.virtualThreads"));
+            tester.setTimingIsolation(Boolean.parseBoolean(System.getProperty("mst.timingIsolation", "true")));
+            // -Dmst.phaseStats=true adds a per-phase time/count breakdown to the JSON reports;
+            // -Dmst.jfr=true emits run and phase JFR events (record with -XX:StartFlightRecording)
+            MSTListener listener = MSTListener.NOOP;
+            if (Boolean.getBoolean("mst.phaseStats")) {
+                listener = new PhaseStatsListener();
+            }
+            if (Boolean.getBoolean("mst.jfr")) {
+                listener = MSTListener.combine(listener, new JfrMSTListener());
+            }
+            if (listener != MSTListener.NOOP) {
+                tester.setListener(listener);
+            }
+
+            // -Dmst.cache=true reuses results for graphs already solved, also across
+            // runs via results/cache (-Dmst.cacheMB sets the in-memory budget)
+            if (Boolean.getBoolean("mst.cache")) {
+                long budget = Long.getLong("mst.cacheMB", 64) * 1024 * 1024;
+                tester.setCache(new MSTResultCache(budget, Paths.get("results", "cache")));
+            }
 
             // Test all graph categories
             String[] graphFiles = {
@@ -36,14 +108,15 @@ public class Main {
                 System.out.println("\n=== Testing " + graphFiles[i] + " ===");
                 long categoryStartTime = System.nanoTime();
 
-                // Check if input file exists
-                if (!new java.io.File(graphFiles[i]).exists()) {
+                // Prefer a converted binary copy next to the JSON file when one exists
+                String inputFile = resolveInputFile(graphFiles[i]);
+                if (inputFile == null) {
                     System.err.println("❌ Input file not found: " + graphFiles[i]);
                     continue;
                 }
 
-                tester.testAllGraphs(graphFiles[i], outputFiles[i]);
-                tester.generateCSVSummary(graphFiles[i],
+                // One pass writes both the JSON report and the CSV summary
+                tester.runCategory(inputFile, outputFiles[i],
                         outputFiles[i].replace(".json", "_summary.csv"));
 
                 long categoryTime = (System.nanoTime() - categoryStartTime) / 1_000_000;
@@ -52,6 +125,9 @@ public class Main {
 
             long totalTime = (System.nanoTime() - totalStartTime) / 1_000_000;
             System.out.println("\n=== All tests completed in " + totalTime + "ms ===");
+            if (tester.getCache() != null) {
+                System.out.println("Result cache: " + tester.getCache().statsSummary());
+            }
             System.out.println("✓ Results saved to 'results/' directory");
             System.out.println("Check generated JSON and CSV files for detailed analysis");
 
@@ -66,6 +142,77 @@ public class Main {
         }
     }
 
+    private static List<MSTAlgorithm> selectEngines(String names) {
+        List<MSTAlgorithm> algorithms = new ArrayList<>();
+        for (String name : names.split(",")) {
+            Supplier<MSTAlgorithm> engine = ENGINES.get(name.trim());
+            if (engine == null) {
+                throw new IllegalArgumentException("Unknown engine '" + name.trim() + "' in mst.engines; known: "
+                        + String.join(", ", ENGINES.keySet()));
+            }
+            algorithms.add(engine.get());
+        }
+        return algorithms;
+    }
+
+    // The binary copy is only used while it is at least as new as the JSON file
+    private static String resolveInputFile(String jsonFile) {
+        java.io.File json = new java.io.File(jsonFile);
+        if (!jsonFile.endsWith(".json")) {
+            return json.exists() ? jsonFile : null;
+        }
+        String binaryFile = jsonFile.substring(0, jsonFile.length() - ".json".length()) + BinaryGraphFormat.EXTENSION;
+        java.io.File binary = new java.io.File(binaryFile);
+        if (binary.exists()) {
+            if (!json.exists() || binary.lastModified() >= json.lastModified()) {
+                return binaryFile;
+            }
+            System.err.println("⚠️ " + binaryFile + " is older than " + jsonFile
+                    + "; using the JSON file (re-run convert to refresh it)");
+        }
+        return json.exists() ? jsonFile : null;
+    }
+
+    private static void convert(String jsonFile, String binaryFile) {
+        try {
+            long start = System.nanoTime();
+            int graphCount = BinaryGraphFormat.convert(jsonFile, binaryFile);
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("✓ Converted " + graphCount + " graphs to " + binaryFile + " in " + elapsed + "ms");
+        } catch (IOException e) {
+            System.err.println("❌ Conversion failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void external(String edgeFile, int chunkEdges) {
+        try {
+            ExternalKruskalMST.Result result = new ExternalKruskalMST(chunkEdges, null).solve(Paths.get(edgeFile));
+            System.out.printf("✓ MST cost %d with %d edges (%d components) in %.2fms%n",
+                    result.getTotalCost(), result.getMstEdgeIds().length, result.getComponentCount(),
+                    result.getExecutionTimeMs());
+            System.out.printf("  %d sorted runs, %d extra merge passes, %d edges scanned%n",
+                    result.getRunCount(), result.getMergePasses(), result.getEdgesScanned());
+        } catch (IOException e) {
+            System.err.println("❌ External Kruskal failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void sharded(String edgeFile, int shards, ShardedMST.Workers workers) {
+        try {
+            ShardedMST.Result result = new ShardedMST(shards, workers).solve(Paths.get(edgeFile));
+            System.out.printf("✓ MST cost %d with %d edges (%d components) in %.2fms%n",
+                    result.getTotalCost(), result.getMstEdgeIds().length, result.getComponentCount(),
+                    result.getExecutionTimeMs());
+            System.out.printf("  %d shards, %d forest edges merged%n",
+                    result.getShardCount(), result.getSurvivingEdges());
+        } catch (IOException e) {
+            System.err.println("❌ Sharded MST failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
     private static void createDirectory(String dirName) {
         java.io.File dir = new java.io.File(dirName);
         if (!dir.exists()) {
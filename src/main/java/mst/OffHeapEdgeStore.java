@@ -0,0 +1,224 @@
+package mst;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.*;
+
+// Columnar edge list in direct (off-heap) memory: one int column each for from,
+// to and weight, indexed by edge id. A Graph built on a store keeps no per-edge
+// objects on the heap, so GC work no longer grows with the edge count.
+//
+// The store owns its memory until close(). After that every accessor throws
+// IllegalStateException and the columns are released right away (through the
+// buffer's cleaner when the JVM exposes it, otherwise at the next GC). Reads are
+// safe from many threads once loading is done; close() must not race with them.
+public final class OffHeapEdgeStore implements AutoCloseable {
+    // One column is a single direct buffer, so it is limited to 2 GB
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / Integer.BYTES;
+
+    private static final int RADIX_BITS = 16;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // No explicit release on this JVM; closed buffers are reclaimed by GC
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final int vertexCount;
+    private final int capacity;
+    private ByteBuffer fromBytes;
+    private ByteBuffer toBytes;
+    private ByteBuffer weightBytes;
+    private IntBuffer from;
+    private IntBuffer to;
+    private IntBuffer weights;
+    private int size;
+    private volatile boolean closed;
+
+    public OffHeapEdgeStore(int vertexCount, int capacity) {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Vertex count cannot be negative: " + vertexCount);
+        }
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 0 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        this.vertexCount = vertexCount;
+        this.capacity = capacity;
+        fromBytes = allocate(capacity);
+        toBytes = allocate(capacity);
+        weightBytes = allocate(capacity);
+        from = fromBytes.asIntBuffer();
+        to = toBytes.asIntBuffer();
+        weights = weightBytes.asIntBuffer();
+    }
+
+    // Copies the edges of an on-heap graph; edge ids stay the same
+    public static OffHeapEdgeStore copyOf(Graph graph) {
+        CSRGraph csr = graph.getCSR();
+        OffHeapEdgeStore store = new OffHeapEdgeStore(csr.vertexCount, csr.edgeCount);
+        for (int e = 0; e < csr.edgeCount; e++) {
+            store.add(csr.edgeSources[e], csr.edgeTargets[e], csr.edgeWeights[e]);
+        }
+        return store;
+    }
+
+    // Loads an EdgeFile whose ids are 0..m-1 in file order (as EdgeFile.write produces)
+    public static OffHeapEdgeStore read(Path path) throws IOException {
+        try (EdgeFile.Reader reader = EdgeFile.openReader(path)) {
+            long edgeCount = reader.getEdgeCount();
+            if (edgeCount > MAX_CAPACITY) {
+                throw new IOException("Edge file " + path + " has too many edges for one store: " + edgeCount);
+            }
+            OffHeapEdgeStore store = new OffHeapEdgeStore(reader.getVertexCount(), (int) edgeCount);
+            try {
+                while (reader.next()) {
+                    if (reader.id() != store.size) {
+                        throw new IOException("Edge file " + path + " is not in id order at edge " + reader.id());
+                    }
+                    store.add(reader.from(), reader.to(), reader.weight());
+                }
+            } catch (IOException | RuntimeException e) {
+                store.close();
+                throw e;
+            }
+            return store;
+        }
+    }
+
+    // Appends an edge and returns its id
+    public int add(int from, int to, int weight) {
+        checkOpen();
+        if (size == capacity) {
+            throw new IllegalStateException("Edge store is full (capacity " + capacity + ")");
+        }
+        if (from < 0 || from >= vertexCount || to < 0 || to >= vertexCount) {
+            throw new IllegalArgumentException("Edge " + from + "-" + to + " has a vertex outside 0.." + (vertexCount - 1));
+        }
+        this.from.put(size, from);
+        this.to.put(size, to);
+        this.weights.put(size, weight);
+        return size++;
+    }
+
+    public int getVertexCount() { return vertexCount; }
+    public int getCapacity() { return capacity; }
+    public boolean isClosed() { return closed; }
+
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    public int from(int edge) {
+        checkOpen();
+        return from.get(checkEdge(edge));
+    }
+
+    public int to(int edge) {
+        checkOpen();
+        return to.get(checkEdge(edge));
+    }
+
+    public int weight(int edge) {
+        checkOpen();
+        return weights.get(checkEdge(edge));
+    }
+
+    // Edge ids 0..size-1 ordered by weight, ties by id, as native-order ints in a
+    // fresh direct buffer that the caller hands back to release(). LSD radix sort
+    // over two 16-bit digits of the weight; every pass is stable and the ids start
+    // ascending, so ties stay in id order. Passes whose digit never varies are skipped.
+    ByteBuffer sortedEdgeIds() {
+        checkOpen();
+        int m = size;
+        ByteBuffer sortedBytes = allocate(m);
+        ByteBuffer scratchBytes = allocate(m);
+        IntBuffer sorted = sortedBytes.asIntBuffer();
+        IntBuffer scratch = scratchBytes.asIntBuffer();
+        for (int e = 0; e < m; e++) sorted.put(e, e);
+
+        int[] starts = new int[RADIX + 1];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(starts, 0);
+            for (int i = 0; i < m; i++) {
+                starts[digit(weights.get(sorted.get(i)), shift) + 1]++;
+            }
+            if (m == 0 || starts[digit(weights.get(0), shift) + 1] == m) continue;
+            for (int d = 0; d < RADIX; d++) starts[d + 1] += starts[d];
+            for (int i = 0; i < m; i++) {
+                int e = sorted.get(i);
+                scratch.put(starts[digit(weights.get(e), shift)]++, e);
+            }
+            ByteBuffer swapBytes = sortedBytes;
+            sortedBytes = scratchBytes;
+            scratchBytes = swapBytes;
+            IntBuffer swap = sorted;
+            sorted = scratch;
+            scratch = swap;
+        }
+        release(scratchBytes);
+        return sortedBytes;
+    }
+
+    // Flipping the sign bit makes unsigned digit order match signed weight order
+    private static int digit(int weight, int shift) {
+        return ((weight ^ Integer.MIN_VALUE) >>> shift) & (RADIX - 1);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        from = to = weights = null;
+        release(fromBytes);
+        release(toBytes);
+        release(weightBytes);
+        fromBytes = toBytes = weightBytes = null;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Edge store is closed");
+        }
+    }
+
+    private int checkEdge(int edge) {
+        if (edge < 0 || edge >= size) {
+            throw new IndexOutOfBoundsException("Edge id " + edge + " outside 0.." + (size - 1));
+        }
+        return edge;
+    }
+
+    static ByteBuffer allocate(int ints) {
+        return ByteBuffer.allocateDirect(ints * Integer.BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    // Frees a buffer from allocate() now instead of waiting for GC
+    static void release(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null) return;
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // Left to the garbage collector
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package mst;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Fork-join helpers for splitting index ranges across a pool
+final class ParallelLoops {
+
+    interface RangeBody {
+        void run(int from, int to);
+    }
+
+    private ParallelLoops() {}
+
+    // Runs body over [from, to) in chunks of at most `grain` indices.
+    // Ranges that fit in one chunk run on the calling thread.
+    static void forRange(ForkJoinPool pool, int from, int to, int grain, RangeBody body) {
+        if (to - from <= grain) {
+            if (from < to) body.run(from, to);
+            return;
+        }
+        pool.invoke(new RangeTask(from, to, Math.max(1, grain), body));
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final RangeBody body;
+
+        RangeTask(int from, int to, int grain, RangeBody body) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                body.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, mid, grain, body), new RangeTask(mid, to, grain, body));
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package mst;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+// Heaviest edge on the tree path between two vertices of a computed MST (or
+// forest), by binary lifting. Each tree is rooted at its lowest vertex. Level k
+// holds, interleaved per vertex, the 2^k-th ancestor of v and the heaviest edge on
+// the way up to it as a packed (weight, id + 1) key, so one query step touches a
+// single cache line. Build is O(n log d) for tree depth d, queries O(log d).
+//
+// Edges compare by (weight, id), the order Kruskal uses, so "heaviest" is one
+// well-defined edge even with tied weights. In an MST the path maximum is also
+// the bottleneck (minimax) weight between u and v over all paths in the graph, and
+// a new edge (u, v, w) improves the tree exactly when w < pathMax(u, v).
+// Vertices are positions in Graph.getVertices(); the index is immutable, so
+// queries may run concurrently.
+public class PathMaxIndex {
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+    private static final int QUERY_GRAIN = 1 << 12;
+    // Key of "no edge": below every real key, whose low half is at least 1
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final int[] edgeWeights;
+    private final int[] depth;
+    private final int[] root;
+    // jump[k][2v] = 2^k-th ancestor of v, jump[k][2v + 1] = heaviest key up to it
+    private final long[][] jump;
+
+    public PathMaxIndex(Graph graph, MSTResult result) {
+        this(graph, result, ForkJoinPool.commonPool());
+    }
+
+    public PathMaxIndex(Graph graph, MSTResult result, ForkJoinPool pool) {
+        if (graph == null || result == null || pool == null) {
+            throw new IllegalArgumentException("Graph, result and pool cannot be null");
+        }
+        int[] treeEdges = result.getMstEdgeIds();
+        if (treeEdges == null) {
+            throw new IllegalArgumentException("Result of " + result.getAlgorithm() + " has no MST edge ids");
+        }
+        CSRGraph csr = graph.getCSR();
+        int n = csr.vertexCount;
+        this.edgeWeights = csr.edgeWeights;
+
+        // Tree adjacency (CSR over the forest edges only); a cycle means the
+        // result does not belong to this graph
+        UnionFind uf = new UnionFind(n);
+        int[] offsets = new int[n + 1];
+        for (int e : treeEdges) {
+            if (e < 0 || e >= csr.edgeCount || !uf.union(csr.edgeSources[e], csr.edgeTargets[e])) {
+                throw new IllegalArgumentException("MST edge ids do not form a forest of this graph (edge " + e + ")");
+            }
+            offsets[csr.edgeSources[e] + 1]++;
+            offsets[csr.edgeTargets[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+        int[] neighbours = new int[offsets[n]];
+        int[] neighbourEdges = new int[offsets[n]];
+        int[] cursor = Arrays.copyOf(offsets, n);
+        for (int e : treeEdges) {
+            int u = csr.edgeSources[e];
+            int v = csr.edgeTargets[e];
+            neighbours[cursor[u]] = v;
+            neighbourEdges[cursor[u]++] = e;
+            neighbours[cursor[v]] = u;
+            neighbourEdges[cursor[v]++] = e;
+        }
+
+        // BFS from the lowest vertex of every tree: parents, parent edges, depths
+        depth = new int[n];
+        root = new int[n];
+        int[] parent = new int[n];
+        int[] parentEdge = new int[n];
+        Arrays.fill(root, -1);
+        int[] queue = new int[n];
+        int maxDepth = 0;
+        for (int start = 0; start < n; start++) {
+            if (root[start] >= 0) continue;
+            root[start] = start;
+            parent[start] = start;
+            parentEdge[start] = -1;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int slot = offsets[u]; slot < offsets[u + 1]; slot++) {
+                    int v = neighbours[slot];
+                    if (root[v] >= 0) continue;
+                    root[v] = start;
+                    parent[v] = u;
+                    parentEdge[v] = neighbourEdges[slot];
+                    depth[v] = depth[u] + 1;
+                    maxDepth = Math.max(maxDepth, depth[v]);
+                    queue[tail++] = v;
+                }
+            }
+        }
+
+        // Only as many levels as the deepest tree needs
+        int levels = 32 - Integer.numberOfLeadingZeros(Math.max(maxDepth, 1));
+        jump = new long[levels][];
+        long[] first = new long[2 * n];
+        for (int v = 0; v < n; v++) {
+            first[2 * v] = parent[v];
+            first[2 * v + 1] = parentEdge[v] < 0 ? NONE : key(parentEdge[v]);
+        }
+        jump[0] = first;
+        for (int k = 1; k < levels; k++) {
+            long[] previous = jump[k - 1];
+            long[] level = new long[2 * n];
+            ParallelLoops.forRange(pool, 0, n, PARALLEL_THRESHOLD, (from, to) -> {
+                for (int v = from; v < to; v++) {
+                    int mid = (int) previous[2 * v];
+                    level[2 * v] = previous[2 * mid];
+                    level[2 * v + 1] = Math.max(previous[2 * v + 1], previous[2 * mid + 1]);
+                }
+            });
+            jump[k] = level;
+        }
+    }
+
+    private long key(int edge) {
+        return ((long) edgeWeights[edge] << 32) | (edge + 1L);
+    }
+
+    public int getVertexCount() {
+        return depth.length;
+    }
+
+    public boolean connected(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        return root[u] == root[v];
+    }
+
+    // Id of the heaviest edge on the tree path, or -1 if u == v or the vertices
+    // are in different trees
+    public int pathMaxEdge(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        if (root[u] != root[v]) return -1;
+
+        long best = NONE;
+        if (depth[u] < depth[v]) {
+            int swap = u;
+            u = v;
+            v = swap;
+        }
+        // Lift u to v's depth
+        int climb = depth[u] - depth[v];
+        for (int k = 0; climb != 0; k++, climb >>>= 1) {
+            if ((climb & 1) != 0) {
+                long[] level = jump[k];
+                best = Math.max(best, level[2 * u + 1]);
+                u = (int) level[2 * u];
+            }
+        }
+
+        if (u != v) {
+            // Lift both to just below their lowest common ancestor
+            for (int k = jump.length - 1; k >= 0; k--) {
+                long[] level = jump[k];
+                int upU = (int) level[2 * u];
+                int upV = (int) level[2 * v];
+                if (upU != upV) {
+                    best = Math.max(best, Math.max(level[2 * u + 1], level[2 * v + 1]));
+                    u = upU;
+                    v = upV;
+                }
+            }
+            long[] parents = jump[0];
+            best = Math.max(best, Math.max(parents[2 * u + 1], parents[2 * v + 1]));
+        }
+        return best == NONE ? -1 : (int) best - 1;
+    }
+
+    // Weight of the heaviest tree edge between u and v (the bottleneck weight)
+    public int pathMax(int u, int v) {
+        int edge = pathMaxEdge(u, v);
+        if (edge < 0) {
+            throw new IllegalArgumentException(u == v
+                    ? "Path from vertex " + u + " to itself has no edges"
+                    : "Vertices " + u + " and " + v + " are in different trees");
+        }
+        return edgeWeights[edge];
+    }
+
+    // Whether adding edge (u, v, weight) would give a lighter spanning forest:
+    // it replaces the path maximum, or joins two trees
+    public boolean improves(int u, int v, int weight) {
+        if (u == v) {
+            checkVertex(u);
+            return false;
+        }
+        int edge = pathMaxEdge(u, v);
+        return edge < 0 || weight < edgeWeights[edge];
+    }
+
+    // pathMaxEdge for every (us[i], vs[i]), split across the common pool
+    public int[] pathMaxEdges(int[] us, int[] vs) {
+        return pathMaxEdges(us, vs, ForkJoinPool.commonPool());
+    }
+
+    public int[] pathMaxEdges(int[] us, int[] vs, ForkJoinPool pool) {
+        if (us == null || vs == null || pool == null) {
+            throw new IllegalArgumentException("Query arrays and pool cannot be null");
+        }
+        if (us.length != vs.length) {
+            throw new IllegalArgumentException("Query arrays differ in length: " + us.length + " vs " + vs.length);
+        }
+        int[] edges = new int[us.length];
+        ParallelLoops.forRange(pool, 0, us.length, QUERY_GRAIN, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                edges[i] = pathMaxEdge(us[i], vs[i]);
+            }
+        });
+        return edges;
+    }
+
+    private void checkVertex(int v) {
+        if (v < 0 || v >= depth.length) {
+            throw new IllegalArgumentException("Vertex " + v + " outside 0.." + (depth.length - 1));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package mst;
+
+// Aggregated time and work of one phase within a single findMST call
+public class PhaseStats {
+    private final long timeNanos;
+    private final long count;
+    private final long invocations;
+
+    public PhaseStats(long timeNanos, long count, long invocations) {
+        this.timeNanos = timeNanos;
+        this.count = count;
+        this.invocations = invocations;
+    }
+
+    public long getTimeNanos() { return timeNanos; }
+    public double getTimeMs() { return timeNanos / 1_000_000.0; }
+    public long getCount() { return count; }
+    // How many times the phase was entered (once for Kruskal's sort, once per vertex for Prim's heap)
+    public long getInvocations() { return invocations; }
+}
@@ -0,0 +1,59 @@
+package mst;
+
+import java.util.*;
+
+// Sums time, work count and invocations per phase and attaches them to the
+// MSTResult (see MSTResult.getPhaseStats). State is kept per thread, so one
+// instance can be set on engines that run graphs concurrently.
+public class PhaseStatsListener implements MSTListener {
+    private static final MSTPhase[] PHASES = MSTPhase.values();
+
+    private final ThreadLocal<Run> current = ThreadLocal.withInitial(Run::new);
+
+    @Override
+    public void runStart(String algorithm, int vertexCount, int edgeCount) {
+        current.get().reset();
+    }
+
+    @Override
+    public void phaseStart(MSTPhase phase) {
+        current.get().started[phase.ordinal()] = System.nanoTime();
+    }
+
+    @Override
+    public void phaseEnd(MSTPhase phase, long count) {
+        long now = System.nanoTime();
+        Run run = current.get();
+        int p = phase.ordinal();
+        run.nanos[p] += now - run.started[p];
+        run.counts[p] += count;
+        run.invocations[p]++;
+    }
+
+    @Override
+    public void runEnd(MSTResult result) {
+        Run run = current.get();
+        Map<MSTPhase, PhaseStats> stats = new EnumMap<>(MSTPhase.class);
+        for (MSTPhase phase : PHASES) {
+            int p = phase.ordinal();
+            if (run.invocations[p] > 0) {
+                stats.put(phase, new PhaseStats(run.nanos[p], run.counts[p], run.invocations[p]));
+            }
+        }
+        result.setPhaseStats(stats);
+        run.reset();
+    }
+
+    private static final class Run {
+        final long[] started = new long[PHASES.length];
+        final long[] nanos = new long[PHASES.length];
+        final long[] counts = new long[PHASES.length];
+        final long[] invocations = new long[PHASES.length];
+
+        void reset() {
+            Arrays.fill(nanos, 0);
+            Arrays.fill(counts, 0);
+            Arrays.fill(invocations, 0);
+        }
+    }
+}
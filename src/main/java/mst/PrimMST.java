@@ -2,92 +2,143 @@ package mst;
 
 import java.util.*;
 
-public class PrimMST {
-    private int operationsCount;
+public class PrimMST implements MSTAlgorithm {
+    private final int heapArity;
+    private MSTListener listener = MSTListener.NOOP;
 
+    public PrimMST() {
+        this(IndexedDaryHeap.DEFAULT_ARITY);
+    }
+
+    // Arity of the indexed heap; larger values favour dense graphs (many decreaseKeys per poll)
+    public PrimMST(int heapArity) {
+        if (heapArity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2: " + heapArity);
+        }
+        this.heapArity = heapArity;
+    }
+
+    public int getHeapArity() { return heapArity; }
+
+    @Override
+    public void setListener(MSTListener listener) {
+        this.listener = MSTListener.requireNonNull(listener);
+    }
+
+    @Override
+    public String getName() {
+        return "Prim";
+    }
+
+    @Override
     public MSTResult findMST(Graph graph) {
-        operationsCount = 0;
+        graph.requireOnHeap("Prim");
+        int operationsCount = 0;
         long startTime = System.nanoTime();
 
-        List<String> vertices = graph.getVertices();
-        int n = vertices.size();
+        int n = graph.getVertexCount();
+        MSTListener listener = this.listener;
+        listener.runStart("Prim", n, graph.getEdgeCount());
 
         // Early return for empty graph
         if (n == 0) {
             long endTime = System.nanoTime();
             double executionTimeMs = (endTime - startTime) / 1_000_000.0;
-            return new MSTResult("Prim", new ArrayList<>(), 0, executionTimeMs, operationsCount);
+            MSTResult result = new MSTResult("Prim", new ArrayList<>(), new int[0], 0, executionTimeMs, operationsCount);
+            result.setComponents(0, new int[0]);
+            listener.runEnd(result);
+            return result;
         }
+        // Per-vertex phase callbacks only when someone is listening
+        boolean instrumented = listener != MSTListener.NOOP;
 
-        // 🔹 Map vertex name → index (so we can use arrays instead of HashMaps)
-        Map<String, Integer> vertexIndex = new HashMap<>(n);
-        for (int i = 0; i < n; i++) {
-            vertexIndex.put(vertices.get(i), i);
-        }
+        // 🔹 Work on the int-indexed CSR view; names are only needed for the result
+        CSRGraph csr = graph.getCSR();
+        int[] offsets = csr.offsets;
+        int[] targets = csr.targets;
+        int[] weights = csr.weights;
+        int[] edgeIds = csr.edgeIds;
 
         boolean[] visited = new boolean[n];
         int[] minEdgeWeight = new int[n];
-        Graph.Edge[] minEdge = new Graph.Edge[n];
+        int[] minEdge = new int[n];
         Arrays.fill(minEdgeWeight, Integer.MAX_VALUE);
+        Arrays.fill(minEdge, -1);
 
-        // 🔹 Use lightweight Node for PQ
-        class Node implements Comparable<Node> {
-            int index, weight;
-            Node(int index, int weight) { this.index = index; this.weight = weight; }
-            @Override
-            public int compareTo(Node o) { return Integer.compare(this.weight, o.weight); }
-        }
-
-        PriorityQueue<Node> pq = new PriorityQueue<>();
-
-        // Start from first vertex
-        minEdgeWeight[0] = 0;
-        pq.offer(new Node(0, 0));
+        // 🔹 Indexed heap: one slot per vertex, improvements are decreaseKeys in place
+        IndexedDaryHeap heap = new IndexedDaryHeap(n, heapArity);
+        MSTEvents.PrimHeapEvent heapEvent = new MSTEvents.PrimHeapEvent();
+        heapEvent.begin();
+        long heapUpdates = 0;
 
-        List<Graph.Edge> mstEdges = new ArrayList<>(n - 1);
-
-        while (!pq.isEmpty()) {
-            Node current = pq.poll();
-            int u = current.index;
-            operationsCount++;
-
-            if (visited[u]) continue;
-            visited[u] = true;
-
-            // Add edge to MST (skip the start vertex)
-            if (minEdge[u] != null) {
-                mstEdges.add(minEdge[u]);
-                operationsCount++;
-            }
-
-            // 🔹 Use adjacency list directly
-            List<Graph.Edge> neighbors = graph.getAdjacencyList().get(vertices.get(u));
-            if (neighbors == null) continue;
-
-            for (Graph.Edge edge : neighbors) {
+        int[] mstEdgeIds = new int[n - 1];
+        int mstSize = 0;
+        int totalCost = 0;
+        // One tree per connected component, in order of their lowest vertex
+        int[] componentCosts = new int[n];
+        int componentCount = 0;
+
+        // Grow a tree from the first vertex, then restart from the next unvisited
+        // one until every component has its own tree
+        for (int start = 0; start < n; start++) {
+            if (visited[start]) continue;
+            int treeCost = totalCost;
+            minEdgeWeight[start] = 0;
+            heap.insert(start, 0);
+
+            while (!heap.isEmpty()) {
+                if (instrumented) listener.phaseStart(MSTPhase.HEAP);
+                int u = heap.pollMin();
+                if (instrumented) listener.phaseEnd(MSTPhase.HEAP, 1);
                 operationsCount++;
+                visited[u] = true;
 
-                // Determine neighbor index
-                String neighborName = edge.from.equals(vertices.get(u)) ? edge.to : edge.from;
-                Integer v = vertexIndex.get(neighborName);
-                if (v == null) continue;
+                // Add edge to MST (skip the start vertex)
+                if (minEdge[u] >= 0) {
+                    mstEdgeIds[mstSize++] = minEdge[u];
+                    totalCost += minEdgeWeight[u];
+                    operationsCount++;
+                }
 
-                if (!visited[v] && edge.weight < minEdgeWeight[v]) {
-                    minEdgeWeight[v] = edge.weight;
-                    minEdge[v] = edge;
-                    pq.offer(new Node(v, edge.weight));
-                    operationsCount += 3;
+                // 🔹 Scan the CSR row of u; the neighbor id is stored directly
+                if (instrumented) listener.phaseStart(MSTPhase.RELAXATION);
+                for (int slot = offsets[u], end = offsets[u + 1]; slot < end; slot++) {
+                    operationsCount++;
+
+                    int v = targets[slot];
+                    int weight = weights[slot];
+                    if (!visited[v] && weight < minEdgeWeight[v]) {
+                        minEdgeWeight[v] = weight;
+                        minEdge[v] = edgeIds[slot];
+                        heap.insertOrDecrease(v, weight);
+                        heapUpdates++;
+                        operationsCount += 3;
+                    }
                 }
+                if (instrumented) listener.phaseEnd(MSTPhase.RELAXATION, offsets[u + 1] - offsets[u]);
             }
+            componentCosts[componentCount++] = totalCost - treeCost;
+        }
+
+        heapEvent.end();
+        if (heapEvent.shouldCommit()) {
+            heapEvent.algorithm = "Prim";
+            heapEvent.vertexCount = n;
+            heapEvent.edgeCount = csr.edgeCount;
+            heapEvent.heapArity = heapArity;
+            heapEvent.polls = n; // every vertex is polled exactly once
+            heapEvent.updates = heapUpdates + componentCount; // plus one start insert per component
+            heapEvent.commit();
         }
 
         long endTime = System.nanoTime();
         double executionTimeMs = (endTime - startTime) / 1_000_000.0;
 
-        // Manual cost sum (faster than stream)
-        int totalCost = 0;
-        for (Graph.Edge e : mstEdges) totalCost += e.weight;
-
-        return new MSTResult("Prim", mstEdges, totalCost, executionTimeMs, operationsCount);
+        mstEdgeIds = Arrays.copyOf(mstEdgeIds, mstSize);
+        MSTResult result = new MSTResult("Prim", graph.edgesById(mstEdgeIds), mstEdgeIds, totalCost,
+                executionTimeMs, operationsCount);
+        result.setComponents(componentCount, Arrays.copyOf(componentCosts, componentCount));
+        listener.runEnd(result);
+        return result;
     }
 }
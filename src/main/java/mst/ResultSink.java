@@ -0,0 +1,18 @@
+package mst;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+// Receives the results of one MSTTester pass. Graphs arrive in graph_id order.
+// end() is only called after a successful pass; close() is always called.
+public interface ResultSink extends Closeable {
+    void begin(List<MSTAlgorithm> algorithms) throws IOException;
+
+    void accept(GraphRunResult run) throws IOException;
+
+    void end() throws IOException;
+
+    @Override
+    default void close() throws IOException {}
+}
@@ -0,0 +1,55 @@
+package mst;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+// One shard of a ShardedMST run: reads a shard EdgeFile, computes its minimum
+// spanning forest with ExternalKruskalMST and writes the forest edges (same ids,
+// ascending) to a second EdgeFile. Runs in-process for ShardedMST.Workers.THREADS
+// and as its own JVM for PROCESSES:
+//
+//   java -cp <classpath> mst.ShardWorker <shard edges> <forest edges> [chunk edges]
+public final class ShardWorker {
+
+    private ShardWorker() {}
+
+    public static void main(String[] args) {
+        if (args.length != 2 && args.length != 3) {
+            System.err.println("Usage: mst.ShardWorker <shard edges> <forest edges> [chunk edges]");
+            System.exit(2);
+        }
+        try {
+            int chunkEdges = args.length == 3 ? Integer.parseInt(args[2]) : ExternalKruskalMST.DEFAULT_CHUNK_EDGES;
+            run(Paths.get(args[0]), Paths.get(args[1]), chunkEdges);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ Shard worker failed on " + args[0] + ": " + e);
+            System.exit(1);
+        }
+    }
+
+    // Returns the number of forest edges written. The shard file must list its
+    // edges in ascending id order, which ShardedMST guarantees.
+    static int run(Path shardFile, Path forestFile, int chunkEdges) throws IOException {
+        Path tempDirectory = forestFile.toAbsolutePath().getParent();
+        int[] forestIds = new ExternalKruskalMST(chunkEdges, tempDirectory).solve(shardFile).getMstEdgeIds();
+        Arrays.sort(forestIds);
+
+        // Second pass picks the forest records out of the shard in id order
+        int next = 0;
+        try (EdgeFile.Reader reader = EdgeFile.openReader(shardFile);
+             EdgeFile.Writer writer = EdgeFile.openWriter(forestFile, reader.getVertexCount())) {
+            while (next < forestIds.length && reader.next()) {
+                if (reader.id() == forestIds[next]) {
+                    writer.write(reader.id(), reader.from(), reader.to(), reader.weight());
+                    next++;
+                }
+            }
+        }
+        if (next != forestIds.length) {
+            throw new IOException("Shard file " + shardFile + " is not in ascending id order");
+        }
+        return next;
+    }
+}
@@ -0,0 +1,389 @@
+package mst;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+// Sharded minimum spanning forest.
+//
+//   1. Partition: the edges are split into shardCount EdgeFiles, either as
+//      contiguous id ranges or by a hash of the lower endpoint.
+//   2. Shard forests: each shard is reduced to its own minimum spanning forest
+//      by a ShardWorker, on a thread or in a separate JVM, through files in the
+//      work directory.
+//   3. Merge: the surviving forest edges (at most n - 1 per shard) are loaded
+//      into an OffHeapEdgeStore and a final KruskalMST pass picks the result.
+//
+// Exact by the cycle property: an edge dropped by its shard is the heaviest
+// edge on a cycle of that shard, so it is not in the global forest either. Every
+// stage orders edges by (weight, id), so ties resolve the same way as in
+// KruskalMST. Edge ids must ascend through the input, as EdgeFile.write produces.
+public class ShardedMST implements MSTAlgorithm {
+    public enum Partitioning { EDGE_RANGE, VERTEX_HASH }
+
+    public enum Workers { THREADS, PROCESSES }
+
+    private final int shardCount;
+    private final Partitioning partitioning;
+    private final Workers workers;
+    private final Path workDirectory;
+    private int parallelism;
+    private int chunkEdges = ExternalKruskalMST.DEFAULT_CHUNK_EDGES;
+    private List<String> workerJvmOptions = Collections.emptyList();
+    private MSTListener listener = MSTListener.NOOP;
+
+    public ShardedMST(int shardCount, Workers workers) {
+        this(shardCount, Partitioning.EDGE_RANGE, workers, null);
+    }
+
+    // workDirectory == null uses a fresh directory under the system temp directory
+    public ShardedMST(int shardCount, Partitioning partitioning, Workers workers, Path workDirectory) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1: " + shardCount);
+        }
+        if (partitioning == null || workers == null) {
+            throw new IllegalArgumentException("Partitioning and workers cannot be null");
+        }
+        this.shardCount = shardCount;
+        this.partitioning = partitioning;
+        this.workers = workers;
+        this.workDirectory = workDirectory;
+        this.parallelism = Math.min(shardCount, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public boolean supportsEdgeStore() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Sharded";
+    }
+
+    @Override
+    public void setListener(MSTListener listener) {
+        this.listener = MSTListener.requireNonNull(listener);
+    }
+
+    // Shards solved at the same time (threads, or worker JVMs alive at once)
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    // Chunk size of each worker's ExternalKruskalMST, i.e. its sort memory
+    public void setChunkEdges(int chunkEdges) {
+        if (chunkEdges < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1 edge: " + chunkEdges);
+        }
+        this.chunkEdges = chunkEdges;
+    }
+
+    // Extra JVM flags for PROCESSES workers, e.g. "-Xmx512m"
+    public void setWorkerJvmOptions(List<String> options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Worker JVM options cannot be null");
+        }
+        this.workerJvmOptions = new ArrayList<>(options);
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph) {
+        long startTime = System.nanoTime();
+        listener.runStart("Sharded", graph.getVertexCount(), graph.getEdgeCount());
+        Path edgeFile = null;
+        try {
+            edgeFile = workDirectory == null
+                    ? Files.createTempFile("mst-edges", ".edges")
+                    : Files.createTempFile(Files.createDirectories(workDirectory), "mst-edges", ".edges");
+            EdgeFile.write(graph, edgeFile);
+            Result run;
+            try (EdgeFile.Reader reader = EdgeFile.openReader(edgeFile)) {
+                run = solve(reader, graph.getVertices(), System.nanoTime());
+            }
+
+            double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            int[] mstEdgeIds = run.getMstEdgeIds();
+            MSTResult result = new MSTResult("Sharded", graph.edgesById(mstEdgeIds), mstEdgeIds,
+                    (int) run.getTotalCost(), executionTimeMs, (int) Math.min(run.getOperationsCount(), Integer.MAX_VALUE));
+            result.setComponents(run.getComponentCount(), null);
+            listener.runEnd(result);
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Sharded MST failed: " + e.getMessage(), e);
+        } finally {
+            EdgeFile.deleteQuietly(edgeFile);
+        }
+    }
+
+    // A run of its own for the listener, like ExternalKruskalMST.solve
+    public Result solve(Path edgeFile) throws IOException {
+        long startTime = System.nanoTime();
+        try (EdgeFile.Reader reader = EdgeFile.openReader(edgeFile)) {
+            listener.runStart("Sharded", reader.getVertexCount(),
+                    (int) Math.min(reader.getEdgeCount(), Integer.MAX_VALUE));
+            Result run = solve(reader, null, startTime);
+            MSTResult summary = new MSTResult("Sharded", null, run.getMstEdgeIds(),
+                    (int) run.getTotalCost(), run.getExecutionTimeMs(), (int) Math.min(run.getOperationsCount(), Integer.MAX_VALUE));
+            summary.setComponents(run.getComponentCount(), null);
+            listener.runEnd(summary);
+            run.phaseStats = summary.getPhaseStats();
+            return run;
+        }
+    }
+
+    // The three phases, between the caller's runStart and runEnd. vertexNames
+    // only label the merge graph; null numbers the vertices
+    private Result solve(EdgeFile.Reader reader, List<String> vertexNames, long startTime) throws IOException {
+        Path runDirectory = workDirectory == null
+                ? Files.createTempDirectory("mst-shards")
+                : Files.createTempDirectory(Files.createDirectories(workDirectory), "mst-shards");
+        try {
+            // Phase 1: partition into shard files, each in ascending id order
+            listener.phaseStart(MSTPhase.PARTITION);
+            Path[] shards = new Path[shardCount];
+            Path[] forests = new Path[shardCount];
+            for (int s = 0; s < shardCount; s++) {
+                shards[s] = runDirectory.resolve("shard-" + s + ".edges");
+                forests[s] = runDirectory.resolve("forest-" + s + ".edges");
+            }
+            int n = reader.getVertexCount();
+            long m = reader.getEdgeCount();
+            partition(reader, shards);
+            listener.phaseEnd(MSTPhase.PARTITION, m);
+
+            // Phase 2: one minimum spanning forest per shard
+            listener.phaseStart(MSTPhase.SHARD);
+            solveShards(shards, forests, runDirectory);
+            listener.phaseEnd(MSTPhase.SHARD, shardCount);
+
+            // Phase 3: Kruskal over the union of the shard forests
+            listener.phaseStart(MSTPhase.MERGE);
+            Result result = merge(forests, n, vertexNames, startTime);
+            listener.phaseEnd(MSTPhase.MERGE, result.getSurvivingEdges());
+            return result;
+        } finally {
+            deleteRecursively(runDirectory);
+        }
+    }
+
+    private void partition(EdgeFile.Reader reader, Path[] shards) throws IOException {
+        int n = reader.getVertexCount();
+        long m = reader.getEdgeCount();
+        EdgeFile.Writer[] writers = new EdgeFile.Writer[shardCount];
+        try {
+            for (int s = 0; s < shardCount; s++) {
+                writers[s] = EdgeFile.openWriter(shards[s], n);
+            }
+            long position = 0;
+            while (reader.next()) {
+                int shard;
+                if (partitioning == Partitioning.EDGE_RANGE) {
+                    shard = (int) (position * shardCount / m);
+                } else {
+                    shard = Math.floorMod(mix(Math.min(reader.from(), reader.to())), shardCount);
+                }
+                writers[shard].write(reader.id(), reader.from(), reader.to(), reader.weight());
+                position++;
+            }
+        } finally {
+            IOException failure = null;
+            for (EdgeFile.Writer writer : writers) {
+                if (writer == null) continue;
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    if (failure == null) failure = e;
+                }
+            }
+            if (failure != null) throw failure;
+        }
+    }
+
+    // Spreads consecutive vertex ids over the shards (murmur3 finalizer)
+    private static int mix(int x) {
+        x ^= x >>> 16;
+        x *= 0x85ebca6b;
+        x ^= x >>> 13;
+        x *= 0xc2b2ae35;
+        x ^= x >>> 16;
+        return x;
+    }
+
+    private void solveShards(Path[] shards, Path[] forests, Path runDirectory) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int s = 0; s < shardCount; s++) {
+                int shard = s;
+                futures.add(executor.submit(() -> {
+                    if (workers == Workers.THREADS) {
+                        ShardWorker.run(shards[shard], forests[shard], chunkEdges);
+                    } else {
+                        runWorkerProcess(shard, shards[shard], forests[shard], runDirectory);
+                    }
+                    // The forest replaces the shard on disk
+                    Files.delete(shards[shard]);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException) throw (IOException) cause;
+                    if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                    throw new IOException("Shard worker failed: " + cause, cause);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for shard workers", e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runWorkerProcess(int shard, Path shardFile, Path forestFile, Path runDirectory)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(workerJvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ShardWorker.class.getName());
+        command.add(shardFile.toString());
+        command.add(forestFile.toString());
+        command.add(Integer.toString(chunkEdges));
+
+        File log = runDirectory.resolve("worker-" + shard + ".log").toFile();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                String output = new String(Files.readAllBytes(log.toPath()), StandardCharsets.UTF_8).trim();
+                throw new IOException("Shard worker " + shard + " exited with code " + exitCode
+                        + (output.isEmpty() ? "" : ": " + output));
+            }
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    // The forests are id-sorted, so a k-way merge by id gives the store ascending
+    // global ids: local ids then break weight ties exactly like the global ids
+    private Result merge(Path[] forests, int n, List<String> vertexNames, long startTime) throws IOException {
+        List<EdgeFile.Reader> readers = new ArrayList<>();
+        ByteBuffer globalIdBytes = null;
+        OffHeapEdgeStore store = null;
+        try {
+            long survivors = 0;
+            for (Path forest : forests) {
+                EdgeFile.Reader reader = EdgeFile.openReader(forest);
+                readers.add(reader);
+                survivors += reader.getEdgeCount();
+            }
+            if (survivors > OffHeapEdgeStore.MAX_CAPACITY) {
+                throw new IOException("Too many surviving forest edges to merge: " + survivors);
+            }
+            store = new OffHeapEdgeStore(n, (int) survivors);
+            globalIdBytes = OffHeapEdgeStore.allocate((int) survivors);
+            IntBuffer globalIds = globalIdBytes.asIntBuffer();
+
+            PriorityQueue<EdgeFile.Reader> queue = new PriorityQueue<>(
+                    Math.max(1, readers.size()), Comparator.comparingInt(EdgeFile.Reader::id));
+            for (EdgeFile.Reader reader : readers) {
+                if (reader.next()) queue.add(reader);
+            }
+            while (!queue.isEmpty()) {
+                EdgeFile.Reader reader = queue.poll();
+                globalIds.put(store.add(reader.from(), reader.to(), reader.weight()), reader.id());
+                if (reader.next()) queue.add(reader);
+            }
+
+            List<String> names = vertexNames != null ? vertexNames : numberedVertices(n);
+            MSTResult merged = new KruskalMST().findMST(Graph.fromStore(names, store));
+
+            int[] mstEdgeIds = merged.getMstEdgeIds();
+            long totalCost = 0;
+            for (int i = 0; i < mstEdgeIds.length; i++) {
+                totalCost += store.weight(mstEdgeIds[i]);
+                mstEdgeIds[i] = globalIds.get(mstEdgeIds[i]);
+            }
+            double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            return new Result(mstEdgeIds, totalCost, merged.getComponentCount(), survivors, shardCount, executionTimeMs);
+        } finally {
+            for (EdgeFile.Reader reader : readers) reader.close();
+            if (store != null) store.close();
+            OffHeapEdgeStore.release(globalIdBytes);
+        }
+    }
+
+    // Edge files carry no vertex names, so the merge graph is labelled "0".."n-1"
+    private static List<String> numberedVertices(int n) {
+        List<String> names = new ArrayList<>(n);
+        for (int v = 0; v < n; v++) names.add(Integer.toString(v));
+        return names;
+    }
+
+    private static void deleteRecursively(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(EdgeFile::deleteQuietly);
+        } catch (IOException ignored) {
+            // Same as EdgeFile.deleteQuietly
+        }
+    }
+
+    // Outcome of solve(): forest edge ids (as stored in the edge file) and merge size
+    public static class Result {
+        private final int[] mstEdgeIds;
+        private final long totalCost;
+        private final int componentCount;
+        private final long survivingEdges;
+        private final int shardCount;
+        private final double executionTimeMs;
+        private Map<MSTPhase, PhaseStats> phaseStats = Collections.emptyMap();
+
+        Result(int[] mstEdgeIds, long totalCost, int componentCount, long survivingEdges,
+               int shardCount, double executionTimeMs) {
+            this.mstEdgeIds = mstEdgeIds;
+            this.totalCost = totalCost;
+            this.componentCount = componentCount;
+            this.survivingEdges = survivingEdges;
+            this.shardCount = shardCount;
+            this.executionTimeMs = executionTimeMs;
+        }
+
+        public int[] getMstEdgeIds() { return mstEdgeIds; }
+        public long getTotalCost() { return totalCost; }
+        public int getComponentCount() { return componentCount; }
+        // Shard forest edges that reached the final Kruskal pass
+        public long getSurvivingEdges() { return survivingEdges; }
+        public int getShardCount() { return shardCount; }
+        public double getExecutionTimeMs() { return executionTimeMs; }
+        // Filled in by a PhaseStatsListener, as for MSTResult
+        public Map<MSTPhase, PhaseStats> getPhaseStats() { return phaseStats; }
+
+        // Finds and unions of the final pass; the shard passes are not counted
+        public long getOperationsCount() { return 2 * survivingEdges + mstEdgeIds.length; }
+    }
+}
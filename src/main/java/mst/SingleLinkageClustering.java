@@ -0,0 +1,293 @@
+package mst;
+
+import java.util.*;
+
+// Single-linkage clustering straight from Kruskal's union-find loop: edges are
+// merged in (weight, id) order and the loop stops as soon as the requested
+// number of clusters is reached or the next edge is longer than the distance
+// threshold. No MSTResult or Edge objects are created.
+//
+// Edges are sorted lazily, as in FilterKruskalMST: the range is split around a
+// sampled pivot weight, the light side is solved first and the heavy side is only
+// filtered and entered while more than k clusters remain, so for small k most
+// heavy edges are never sorted.
+//
+// Labels are cluster numbers 0..c-1 per vertex (positions in Graph.getVertices()),
+// numbered in order of each cluster's lowest vertex. A graph with more connected
+// components than the requested k yields one cluster per component.
+public final class SingleLinkageClustering {
+    // Ranges at or below this size are sorted and scanned directly
+    static final int BASE_CASE_SIZE = 2048;
+    private static final int PIVOT_SAMPLES = 31;
+
+    private SingleLinkageClustering() {}
+
+    // Cuts the single-linkage hierarchy at k clusters (the k - 1 heaviest MST edges)
+    public static int[] byCount(Graph graph, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("Cluster count must be at least 1: " + k);
+        }
+        CSRGraph csr = graph.getCSR();
+        LazyKruskal run = new LazyKruskal(csr, k, null);
+        run.solveAll();
+        return labels(run.uf);
+    }
+
+    // Merges every pair of vertices joined by a path of edges no longer than
+    // maxDistance. Only the edges within the threshold are sorted.
+    public static int[] byDistance(Graph graph, int maxDistance) {
+        CSRGraph csr = graph.getCSR();
+        int n = csr.vertexCount;
+        int[] weights = csr.edgeWeights;
+
+        int count = 0;
+        for (int w : weights) {
+            if (w <= maxDistance) count++;
+        }
+        int[] candidates = new int[count];
+        count = 0;
+        for (int e = 0; e < weights.length; e++) {
+            if (weights[e] <= maxDistance) candidates[count++] = e;
+        }
+
+        // Every candidate is merged, so the order only matters for stopping early
+        UnionFind uf = new UnionFind(n);
+        EdgeSorter.sort(candidates, 0, candidates.length, weights);
+        int clusters = n;
+        for (int i = 0; i < candidates.length && clusters > 1; i++) {
+            int e = candidates[i];
+            if (uf.union(csr.edgeSources[e], csr.edgeTargets[e])) clusters--;
+        }
+        return labels(uf);
+    }
+
+    // The full merge history, for cutting at several levels without re-sorting
+    public static Dendrogram dendrogram(Graph graph) {
+        CSRGraph csr = graph.getCSR();
+        Dendrogram dendrogram = new Dendrogram(csr.vertexCount);
+        new LazyKruskal(csr, 1, dendrogram).solveAll();
+        dendrogram.csr = csr;
+        return dendrogram;
+    }
+
+    // Kruskal until target clusters remain, sorting only the ranges it enters
+    private static final class LazyKruskal {
+        final int[] sources;
+        final int[] targets;
+        final int[] weights;
+        final int target;
+        final UnionFind uf;
+        int clusters;
+        int[] scratch = new int[0];
+        // Dendrogram mode: clusterOf[root] is the dendrogram id of the cluster rooted there
+        final Dendrogram dendrogram;
+        final int[] clusterOf;
+        final int[] sizeOf;
+
+        LazyKruskal(CSRGraph csr, int target, Dendrogram dendrogram) {
+            int n = csr.vertexCount;
+            this.sources = csr.edgeSources;
+            this.targets = csr.edgeTargets;
+            this.weights = csr.edgeWeights;
+            this.target = target;
+            this.uf = new UnionFind(n);
+            this.clusters = n;
+            this.dendrogram = dendrogram;
+            if (dendrogram != null) {
+                clusterOf = new int[n];
+                sizeOf = new int[n];
+                for (int v = 0; v < n; v++) {
+                    clusterOf[v] = v;
+                    sizeOf[v] = 1;
+                }
+            } else {
+                clusterOf = null;
+                sizeOf = null;
+            }
+        }
+
+        boolean done() {
+            return clusters <= target;
+        }
+
+        void solveAll() {
+            if (done()) return;
+            int[] edgeIds = new int[weights.length];
+            for (int e = 0; e < edgeIds.length; e++) edgeIds[e] = e;
+            solve(edgeIds, 0, edgeIds.length);
+        }
+
+        void solve(int[] edgeIds, int from, int to) {
+            if (to - from <= BASE_CASE_SIZE) {
+                scan(edgeIds, from, to);
+                return;
+            }
+            int pivot = samplePivot(edgeIds, from, to);
+            int split = partition(edgeIds, from, to, pivot);
+            if (split == to && pivot > Integer.MIN_VALUE) {
+                // Pivot was the largest weight; retry with the pivot itself on the heavy side
+                split = partition(edgeIds, from, to, pivot - 1);
+            }
+            if (split == from || split == to) {
+                // Every edge has the same weight, so splitting cannot make progress
+                scan(edgeIds, from, to);
+                return;
+            }
+
+            solve(edgeIds, from, split);
+            if (done()) return;
+            solve(edgeIds, split, filter(edgeIds, split, to));
+        }
+
+        // Partitioning and filtering keep ids ascending, so ties still resolve by edge id
+        void scan(int[] edgeIds, int from, int to) {
+            EdgeSorter.sort(edgeIds, from, to, weights);
+            for (int i = from; i < to && !done(); i++) {
+                int e = edgeIds[i];
+                int rootA = uf.find(sources[e]);
+                int rootB = uf.find(targets[e]);
+                if (rootA == rootB) continue;
+                uf.unionRoots(rootA, rootB);
+                clusters--;
+                if (dendrogram != null) record(e, rootA, rootB);
+            }
+        }
+
+        void record(int e, int rootA, int rootB) {
+            int root = uf.find(rootA);
+            int size = sizeOf[rootA] + sizeOf[rootB];
+            int left = Math.min(clusterOf[rootA], clusterOf[rootB]);
+            int right = Math.max(clusterOf[rootA], clusterOf[rootB]);
+            clusterOf[root] = dendrogram.add(left, right, e, weights[e], size);
+            sizeOf[root] = size;
+        }
+
+        // Median of an evenly spaced sample of weights in the range
+        int samplePivot(int[] edgeIds, int from, int to) {
+            int[] sample = new int[PIVOT_SAMPLES];
+            long step = (to - from) / PIVOT_SAMPLES;
+            for (int i = 0; i < PIVOT_SAMPLES; i++) {
+                sample[i] = weights[edgeIds[(int) (from + i * step)]];
+            }
+            Arrays.sort(sample);
+            return sample[PIVOT_SAMPLES / 2];
+        }
+
+        // Stable partition: weight <= pivot first, heavier edges after. Returns
+        // the start of the heavy part.
+        int partition(int[] edgeIds, int from, int to, int pivot) {
+            if (scratch.length < to - from) scratch = new int[to - from];
+            int light = from;
+            int heavy = 0;
+            for (int i = from; i < to; i++) {
+                int e = edgeIds[i];
+                if (weights[e] <= pivot) {
+                    edgeIds[light++] = e;
+                } else {
+                    scratch[heavy++] = e;
+                }
+            }
+            System.arraycopy(scratch, 0, edgeIds, light, heavy);
+            return light;
+        }
+
+        // Removes edges whose endpoints are already in one cluster; returns the new end
+        int filter(int[] edgeIds, int from, int to) {
+            int out = from;
+            for (int i = from; i < to; i++) {
+                int e = edgeIds[i];
+                if (uf.find(sources[e]) != uf.find(targets[e])) {
+                    edgeIds[out++] = e;
+                }
+            }
+            return out;
+        }
+    }
+
+    // Cluster numbers in order of each cluster's lowest vertex
+    static int[] labels(UnionFind uf) {
+        int n = uf.size();
+        int[] rootLabel = new int[n];
+        Arrays.fill(rootLabel, -1);
+        int[] labels = new int[n];
+        int next = 0;
+        for (int v = 0; v < n; v++) {
+            int root = uf.find(v);
+            if (rootLabel[root] < 0) rootLabel[root] = next++;
+            labels[v] = rootLabel[root];
+        }
+        return labels;
+    }
+
+    // Merge records in merge order, like a scipy linkage matrix: leaves are the
+    // vertices 0..n-1 and merge i creates cluster n + i from getLeft(i) and
+    // getRight(i). A disconnected graph has fewer than n - 1 merges.
+    public static class Dendrogram {
+        private final int vertexCount;
+        private final int[] left;
+        private final int[] right;
+        private final int[] edgeIds;
+        private final int[] distances;
+        private final int[] sizes;
+        private int mergeCount;
+        private CSRGraph csr;
+
+        Dendrogram(int vertexCount) {
+            int capacity = Math.max(vertexCount - 1, 0);
+            this.vertexCount = vertexCount;
+            this.left = new int[capacity];
+            this.right = new int[capacity];
+            this.edgeIds = new int[capacity];
+            this.distances = new int[capacity];
+            this.sizes = new int[capacity];
+        }
+
+        // Returns the id of the new cluster
+        int add(int leftCluster, int rightCluster, int edgeId, int distance, int size) {
+            int i = mergeCount++;
+            left[i] = leftCluster;
+            right[i] = rightCluster;
+            edgeIds[i] = edgeId;
+            distances[i] = distance;
+            sizes[i] = size;
+            return vertexCount + i;
+        }
+
+        public int getVertexCount() { return vertexCount; }
+        public int getMergeCount() { return mergeCount; }
+        public int getLeft(int merge) { return left[checkMerge(merge)]; }
+        public int getRight(int merge) { return right[checkMerge(merge)]; }
+        // The MST edge that caused the merge, as a position in Graph.getEdges()
+        public int getEdgeId(int merge) { return edgeIds[checkMerge(merge)]; }
+        public int getDistance(int merge) { return distances[checkMerge(merge)]; }
+        public int getSize(int merge) { return sizes[checkMerge(merge)]; }
+
+        // Same labels as SingleLinkageClustering.byCount(graph, k)
+        public int[] labels(int k) {
+            if (k < 1) {
+                throw new IllegalArgumentException("Cluster count must be at least 1: " + k);
+            }
+            return replay(Math.max(0, vertexCount - k), Integer.MAX_VALUE);
+        }
+
+        // Same labels as SingleLinkageClustering.byDistance(graph, maxDistance)
+        public int[] labelsWithin(int maxDistance) {
+            return replay(mergeCount, maxDistance);
+        }
+
+        private int[] replay(int merges, int maxDistance) {
+            UnionFind uf = new UnionFind(vertexCount);
+            for (int i = 0; i < Math.min(merges, mergeCount) && distances[i] <= maxDistance; i++) {
+                uf.union(csr.edgeSources[edgeIds[i]], csr.edgeTargets[edgeIds[i]]);
+            }
+            return SingleLinkageClustering.labels(uf);
+        }
+
+        private int checkMerge(int merge) {
+            if (merge < 0 || merge >= mergeCount) {
+                throw new IndexOutOfBoundsException("Merge " + merge + " outside 0.." + (mergeCount - 1));
+            }
+            return merge;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package mst;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+// Minimum spanning forest that solves the connected components in parallel.
+// Components are labelled with one UnionFind pass over the edges, then each
+// component gets its own Prim run (heap sized to the component) on a fork-join
+// pool. Components are disjoint, so the runs share the per-vertex arrays without
+// synchronization. Inputs that split into many islands get parallelism from the
+// islands themselves; a single connected graph degenerates to sequential Prim.
+public class SpanningForestMST implements MSTAlgorithm {
+    private final ForkJoinPool pool;
+    private final int heapArity;
+    private MSTListener listener = MSTListener.NOOP;
+
+    public SpanningForestMST() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public SpanningForestMST(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.pool = pool;
+        this.heapArity = IndexedDaryHeap.DEFAULT_ARITY;
+    }
+
+    @Override
+    public String getName() {
+        return "SpanningForest";
+    }
+
+    @Override
+    public void setListener(MSTListener listener) {
+        this.listener = MSTListener.requireNonNull(listener);
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph) {
+        graph.requireOnHeap("SpanningForest");
+        long startTime = System.nanoTime();
+
+        int n = graph.getVertexCount();
+        CSRGraph csr = graph.getCSR();
+        int m = csr.edgeCount;
+        MSTListener listener = this.listener;
+        listener.runStart("SpanningForest", n, m);
+
+        // Step 1: component labels, numbered in order of each component's lowest vertex
+        listener.phaseStart(MSTPhase.UNION_FIND);
+        UnionFind uf = new UnionFind(n);
+        for (int e = 0; e < m; e++) {
+            uf.union(csr.edgeSources[e], csr.edgeTargets[e]);
+        }
+        int componentCount = uf.getComponentCount();
+        int[] rootLabel = new int[n];
+        Arrays.fill(rootLabel, -1);
+        int[] label = new int[n];
+        int nextLabel = 0;
+        for (int v = 0; v < n; v++) {
+            int root = uf.find(v);
+            if (rootLabel[root] < 0) rootLabel[root] = nextLabel++;
+            label[v] = rootLabel[root];
+        }
+        listener.phaseEnd(MSTPhase.UNION_FIND, m);
+
+        // Vertices grouped by component (counting sort keeps them ascending)
+        int[] componentStart = new int[componentCount + 1];
+        for (int v = 0; v < n; v++) componentStart[label[v] + 1]++;
+        for (int c = 0; c < componentCount; c++) componentStart[c + 1] += componentStart[c];
+        int[] members = new int[n];
+        int[] cursor = Arrays.copyOf(componentStart, componentCount);
+        for (int v = 0; v < n; v++) members[cursor[label[v]]++] = v;
+
+        // Largest first so a big component does not start last
+        Integer[] order = new Integer[componentCount];
+        for (int c = 0; c < componentCount; c++) order[c] = c;
+        Arrays.sort(order, (a, b) -> Integer.compare(
+                componentStart[b + 1] - componentStart[b], componentStart[a + 1] - componentStart[a]));
+
+        // Step 2: one Prim per component, largest components first
+        Run run = new Run(csr, members, componentStart);
+        listener.phaseStart(MSTPhase.RELAXATION);
+        int grain = Math.max(1, componentCount / (pool.getParallelism() * 8));
+        ParallelLoops.forRange(pool, 0, componentCount, grain, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                run.solve(order[i]);
+            }
+        });
+        listener.phaseEnd(MSTPhase.RELAXATION, 2L * m);
+        int[] mstEdgeIds = run.mstEdgeIds;
+        int[] componentCosts = run.componentCosts;
+
+        int totalCost = 0;
+        long operationsCount = m + (long) n;
+        for (int c = 0; c < componentCount; c++) {
+            totalCost += componentCosts[c];
+            operationsCount += run.componentOperations[c];
+        }
+
+        long endTime = System.nanoTime();
+        double executionTimeMs = (endTime - startTime) / 1_000_000.0;
+
+        MSTResult result = new MSTResult("SpanningForest", graph.edgesById(mstEdgeIds), mstEdgeIds, totalCost,
+                executionTimeMs, (int) Math.min(operationsCount, Integer.MAX_VALUE));
+        result.setComponents(componentCount, componentCosts);
+        listener.runEnd(result);
+        return result;
+    }
+
+    // Per-call state. Components are disjoint, so concurrent solve() calls touch
+    // disjoint entries of the per-vertex arrays and of mstEdgeIds.
+    private final class Run {
+        final CSRGraph csr;
+        final int[] members;
+        final int[] componentStart;
+        final int[] localIndex;
+        final int[] minEdgeWeight;
+        final int[] minEdge;
+        final boolean[] visited;
+        final int[] mstEdgeIds;
+        final int[] componentCosts;
+        final long[] componentOperations;
+
+        Run(CSRGraph csr, int[] members, int[] componentStart) {
+            int n = csr.vertexCount;
+            int componentCount = componentStart.length - 1;
+            this.csr = csr;
+            this.members = members;
+            this.componentStart = componentStart;
+            this.localIndex = new int[n];
+            this.minEdgeWeight = new int[n];
+            this.minEdge = new int[n];
+            this.visited = new boolean[n];
+            this.mstEdgeIds = new int[n - componentCount];
+            this.componentCosts = new int[componentCount];
+            this.componentOperations = new long[componentCount];
+        }
+
+        // Prim over the members of component c. A component with s vertices owns
+        // the s - 1 slots of mstEdgeIds starting at componentStart[c] - c.
+        void solve(int c) {
+            int from = componentStart[c];
+            int to = componentStart[c + 1];
+            int size = to - from;
+            if (size == 1) return; // isolated vertex: an empty tree
+
+            for (int i = from; i < to; i++) {
+                int v = members[i];
+                localIndex[v] = i - from;
+                minEdgeWeight[v] = Integer.MAX_VALUE;
+                minEdge[v] = -1;
+            }
+
+            int[] offsets = csr.offsets;
+            int[] targets = csr.targets;
+            int[] weights = csr.weights;
+            int[] edgeIds = csr.edgeIds;
+
+            IndexedDaryHeap heap = new IndexedDaryHeap(size, heapArity);
+            minEdgeWeight[members[from]] = 0;
+            heap.insert(0, 0);
+
+            int out = from - c;
+            int cost = 0;
+            long operations = 0;
+            while (!heap.isEmpty()) {
+                int u = members[from + heap.pollMin()];
+                operations++;
+                visited[u] = true;
+
+                if (minEdge[u] >= 0) {
+                    mstEdgeIds[out++] = minEdge[u];
+                    cost += minEdgeWeight[u];
+                    operations++;
+                }
+
+                for (int slot = offsets[u], end = offsets[u + 1]; slot < end; slot++) {
+                    operations++;
+                    int v = targets[slot];
+                    int weight = weights[slot];
+                    if (!visited[v] && weight < minEdgeWeight[v]) {
+                        minEdgeWeight[v] = weight;
+                        minEdge[v] = edgeIds[slot];
+                        heap.insertOrDecrease(localIndex[v], weight);
+                        operations += 3;
+                    }
+                }
+            }
+            componentCosts[c] = cost;
+            componentOperations[c] = operations;
+        }
+    }
+}
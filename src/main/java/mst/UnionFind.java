@@ -0,0 +1,76 @@
+package mst;
+
+// Disjoint-set forest over the int ids 0..size-1.
+// Union by rank with iterative path halving, so find never recurses and
+// no boxing or hashing happens on the hot path.
+public class UnionFind {
+    private final int[] parent;
+    private final byte[] rank;
+    private int componentCount;
+
+    public UnionFind(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative: " + size);
+        }
+        parent = new int[size];
+        rank = new byte[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+        componentCount = size;
+    }
+
+    public int find(int x) {
+        // Path halving: every visited node skips to its grandparent
+        while (parent[x] != x) {
+            int grandparent = parent[parent[x]];
+            parent[x] = grandparent;
+            x = grandparent;
+        }
+        return x;
+    }
+
+    // Returns true if x and y were in different sets and have now been merged
+    public boolean union(int x, int y) {
+        int rootX = find(x);
+        int rootY = find(y);
+        if (rootX == rootY) {
+            return false;
+        }
+        link(rootX, rootY);
+        return true;
+    }
+
+    // Merges two sets given their current roots, skipping the extra finds.
+    // Callers must pass roots obtained from find() since the last union.
+    public void unionRoots(int rootX, int rootY) {
+        if (rootX != rootY) {
+            link(rootX, rootY);
+        }
+    }
+
+    public boolean connected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    public int size() {
+        return parent.length;
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    private void link(int rootX, int rootY) {
+        // Union by rank; rank is bounded by log2(size) so a byte is enough
+        if (rank[rootX] < rank[rootY]) {
+            parent[rootX] = rootY;
+        } else if (rank[rootX] > rank[rootY]) {
+            parent[rootY] = rootX;
+        } else {
+            parent[rootY] = rootX;
+            rank[rootX]++;
+        }
+        componentCount--;
+    }
+}
@@ -0,0 +1,125 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+class DynamicMSTTest {
+
+    @Test
+    void testRandomUpdatesMatchRecomputation() {
+        Random random = new Random(21);
+        for (int round = 0; round < 5; round++) {
+            Graph graph = GraphGenerator.generate(40, 0.1, 30, round);
+            DynamicMST dynamic = new DynamicMST(graph, new PrimMST().findMST(graph));
+
+            // Mirror of the live edges, keyed by edge id
+            Map<Integer, Graph.Edge> live = new LinkedHashMap<>();
+            for (int e = 0; e < graph.getEdgeCount(); e++) live.put(e, graph.getEdges().get(e));
+            assertMatchesKruskal(graph.getVertices(), live, dynamic);
+
+            for (int step = 0; step < 400; step++) {
+                List<Integer> ids = new ArrayList<>(live.keySet());
+                int action = random.nextInt(3);
+                if (action == 0 || ids.isEmpty()) {
+                    String from = "V" + random.nextInt(40);
+                    String to = "V" + random.nextInt(40);
+                    int weight = random.nextInt(30);
+                    live.put(dynamic.insertEdge(from, to, weight), new Graph.Edge(from, to, weight));
+                } else if (action == 1) {
+                    int e = ids.get(random.nextInt(ids.size()));
+                    dynamic.deleteEdge(e);
+                    live.remove(e);
+                } else {
+                    int e = ids.get(random.nextInt(ids.size()));
+                    int weight = random.nextInt(30);
+                    dynamic.updateWeight(e, weight);
+                    Graph.Edge old = live.get(e);
+                    live.put(e, new Graph.Edge(old.from, old.to, weight));
+                }
+                assertMatchesKruskal(graph.getVertices(), live, dynamic);
+            }
+        }
+    }
+
+    @Test
+    void testTreeEdgeSwapsOnInsertAndDelete() {
+        List<String> vertices = Arrays.asList("A", "B", "C");
+        Graph graph = new Graph(vertices, Arrays.asList(
+                new Graph.Edge("A", "B", 5),
+                new Graph.Edge("B", "C", 7)
+        ));
+        DynamicMST dynamic = new DynamicMST(graph);
+        assertEquals(12, dynamic.getTotalCost());
+
+        int shortcut = dynamic.insertEdge("A", "C", 1);
+        assertEquals(6, dynamic.getTotalCost());
+        assertTrue(dynamic.isTreeEdge(shortcut));
+        assertFalse(dynamic.isTreeEdge(1));
+
+        dynamic.deleteEdge(shortcut);
+        assertEquals(12, dynamic.getTotalCost());
+        assertTrue(dynamic.isTreeEdge(1));
+
+        dynamic.deleteEdge(0);
+        assertEquals(2, dynamic.getComponentCount());
+        assertFalse(dynamic.connected("A", "C"));
+        assertThrows(IllegalArgumentException.class, () -> dynamic.deleteEdge(0));
+        assertThrows(IllegalArgumentException.class, () -> dynamic.insertEdge("A", "Z", 1));
+    }
+
+    @Test
+    void testReplacementFromSmallerSide() {
+        // A path 0-1-...-199 with chords of weight 100 + i; cutting near either end
+        // leaves a tiny half, which is the one the replacement search walks
+        int n = 200;
+        Graph.Builder builder = new Graph.Builder(GraphGenerator.vertexNames(n));
+        for (int v = 0; v + 1 < n; v++) builder.addEdge(v, v + 1, 1);
+        for (int v = 0; v + 2 < n; v++) builder.addEdge(v, v + 2, 100 + v);
+        Graph graph = builder.build();
+        DynamicMST dynamic = new DynamicMST(graph);
+        assertEquals(n - 1, dynamic.getTotalCost());
+
+        // Edge 1 is 1-2; the cheapest chord across is 0-2 (100), not 1-3 (101)
+        dynamic.deleteEdge(1);
+        assertEquals(n - 2 + 100, dynamic.getTotalCost());
+        assertTrue(dynamic.isTreeEdge(n - 1));
+        assertFalse(dynamic.isTreeEdge(n));
+
+        // Raising a path edge above every chord across it swaps in the cheapest chord
+        dynamic.updateWeight(n - 3, 10_000);
+        assertFalse(dynamic.isTreeEdge(n - 3));
+        assertEquals(n - 3 + 100 + 100 + n - 4, dynamic.getTotalCost());
+        assertEquals(1, dynamic.getComponentCount());
+    }
+
+    @Test
+    void testTotalCostOverflowReported() {
+        Graph graph = new Graph(Arrays.asList("A", "B", "C"), Arrays.asList(
+                new Graph.Edge("A", "B", Integer.MAX_VALUE),
+                new Graph.Edge("B", "C", Integer.MAX_VALUE)
+        ));
+        DynamicMST dynamic = new DynamicMST(graph);
+        assertEquals(2L * Integer.MAX_VALUE, dynamic.getTotalCost());
+        assertThrows(ArithmeticException.class, dynamic::toResult);
+    }
+
+    @Test
+    void testSeedWithoutEdgeIdsRejected() {
+        Graph graph = new Graph(Arrays.asList("A", "B"), Collections.singletonList(new Graph.Edge("A", "B", 1)));
+        MSTResult legacy = new MSTResult("Legacy", graph.getEdges(), 1, 0, 0);
+        assertThrows(IllegalArgumentException.class, () -> new DynamicMST(graph, legacy));
+    }
+
+    private static void assertMatchesKruskal(List<String> vertices, Map<Integer, Graph.Edge> live, DynamicMST dynamic) {
+        Graph rebuilt = new Graph(vertices, new ArrayList<>(live.values()));
+        MSTResult expected = new KruskalMST().findMST(rebuilt);
+        assertEquals(expected.getTotalCost(), dynamic.getTotalCost());
+        assertEquals(expected.getMstEdges().size(), dynamic.getTreeEdgeCount());
+
+        long cost = 0;
+        for (Graph.Edge edge : dynamic.getTreeEdges()) cost += edge.weight;
+        assertEquals(dynamic.getTotalCost(), cost);
+    }
+}
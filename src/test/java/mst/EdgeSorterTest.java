@@ -0,0 +1,46 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+class EdgeSorterTest {
+
+    @Test
+    void testNarrowAndWideWeightRanges() {
+        Random random = new Random(17);
+        // Small and large inputs, narrow (counting sort) and wide (packed sort) ranges
+        for (int count : new int[]{10, 1000, EdgeSorter.PARALLEL_THRESHOLD * 2}) {
+            for (int range : new int[]{5, 100, Integer.MAX_VALUE}) {
+                int[] weights = new int[count];
+                for (int e = 0; e < count; e++) {
+                    weights[e] = range == Integer.MAX_VALUE ? random.nextInt() : random.nextInt(range) - range / 2;
+                }
+                assertSortedByWeightThenId(weights, EdgeSorter.sortedEdgeIds(weights));
+            }
+        }
+    }
+
+    @Test
+    void testSortsSubRangeOnly() {
+        int[] weights = {5, 4, 3, 2, 1, 0};
+        int[] edgeIds = {0, 1, 2, 3, 4, 5};
+        EdgeSorter.sort(edgeIds, 1, 4, weights);
+        assertArrayEquals(new int[]{0, 3, 2, 1, 4, 5}, edgeIds);
+    }
+
+    private void assertSortedByWeightThenId(int[] weights, int[] sorted) {
+        assertEquals(weights.length, sorted.length);
+        boolean[] seen = new boolean[weights.length];
+        for (int i = 0; i < sorted.length; i++) {
+            assertFalse(seen[sorted[i]]);
+            seen[sorted[i]] = true;
+            if (i > 0) {
+                int previous = sorted[i - 1];
+                int current = sorted[i];
+                assertTrue(weights[previous] < weights[current]
+                        || (weights[previous] == weights[current] && previous < current));
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+class ExternalKruskalTest {
+
+    @Test
+    void testMatchesKruskalAcrossChunkSizes(@TempDir Path dir) throws IOException {
+        Graph graph = GraphGenerator.generate(300, 0.2, 50, 8);
+        MSTResult expected = new KruskalMST().findMST(graph);
+        Path edgeFile = dir.resolve("graph.edges");
+        EdgeFile.write(graph, edgeFile);
+
+        // One chunk, a handful of runs, and more runs than the merge fan-in
+        int m = graph.getEdgeCount();
+        for (int chunkEdges : new int[]{m, m / 5, m / (ExternalKruskalMST.MAX_FAN_IN * 3)}) {
+            Path temp = Files.createDirectories(dir.resolve("tmp" + chunkEdges));
+            ExternalKruskalMST.Result result = new ExternalKruskalMST(chunkEdges, temp).solve(edgeFile);
+
+            assertEquals(expected.getTotalCost(), result.getTotalCost(), "chunk=" + chunkEdges);
+            assertArrayEquals(expected.getMstEdgeIds(), result.getMstEdgeIds(), "chunk=" + chunkEdges);
+            assertEquals(1, result.getComponentCount());
+            try (Stream<Path> leftovers = Files.list(temp)) {
+                assertEquals(0, leftovers.count(), "temporary runs must be deleted");
+            }
+            if (chunkEdges < m / ExternalKruskalMST.MAX_FAN_IN) {
+                assertTrue(result.getMergePasses() > 0);
+            }
+        }
+    }
+
+    @Test
+    void testFindMSTOnDisconnectedGraph() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D", "E");
+        Graph graph = new Graph(vertices, Arrays.asList(
+                new Graph.Edge("A", "B", 4),
+                new Graph.Edge("B", "C", 1),
+                new Graph.Edge("A", "C", 2),
+                new Graph.Edge("D", "E", 7)
+        ));
+        MSTResult result = new ExternalKruskalMST(2, null).findMST(graph);
+        assertEquals(10, result.getTotalCost());
+        assertEquals(2, result.getComponentCount());
+        assertEquals(3, result.getMstEdges().size());
+    }
+
+    @Test
+    void testListenerRunsAreBalanced(@TempDir Path dir) throws IOException {
+        Graph graph = GraphGenerator.generate(100, 0.2, 50, 3);
+        Path edgeFile = dir.resolve("graph.edges");
+        EdgeFile.write(graph, edgeFile);
+        int[] calls = new int[2];
+        PhaseStatsListener stats = new PhaseStatsListener();
+        ExternalKruskalMST external = new ExternalKruskalMST(graph.getEdgeCount() / 4, dir);
+        external.setListener(MSTListener.combine(stats, new MSTListener() {
+            @Override
+            public void runStart(String algorithm, int vertexCount, int edgeCount) { calls[0]++; }
+
+            @Override
+            public void runEnd(MSTResult result) { calls[1]++; }
+        }));
+
+        ExternalKruskalMST.Result solved = external.solve(edgeFile);
+        assertArrayEquals(new int[] {1, 1}, calls);
+        assertTrue(solved.getPhaseStats().containsKey(MSTPhase.MERGE));
+
+        MSTResult found = external.findMST(graph);
+        assertArrayEquals(new int[] {2, 2}, calls);
+        assertTrue(found.getPhaseStats().containsKey(MSTPhase.UNION_FIND));
+    }
+
+    @Test
+    void testCorruptEdgeFileRejected(@TempDir Path dir) throws IOException {
+        Path edgeFile = dir.resolve("graph.edges");
+        EdgeFile.write(GraphGenerator.generate(20, 0.5, 10, 1), edgeFile);
+        byte[] bytes = Files.readAllBytes(edgeFile);
+        Files.write(edgeFile, Arrays.copyOf(bytes, bytes.length - 5));
+        assertThrows(IOException.class, () -> new ExternalKruskalMST().solve(edgeFile));
+
+        Files.write(edgeFile, "not an edge file".getBytes());
+        assertThrows(IOException.class, () -> new ExternalKruskalMST().solve(edgeFile));
+    }
+}
@@ -0,0 +1,52 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+class GraphBuilderTest {
+
+    @Test
+    void testBuilderMatchesConstructor() {
+        List<String> vertices = GraphGenerator.vertexNames(200);
+        Graph expected = new Graph(vertices, GraphGenerator.generateEdges(200, 0.2, 50, 5));
+        CSRGraph csr = expected.getCSR();
+
+        Graph built = Graph.fromArrays(vertices, csr.edgeSources, csr.edgeTargets, csr.edgeWeights);
+        assertEquals(expected.getEdges(), built.getEdges());
+        assertEquals(expected.getAdjacencyList(), built.getAdjacencyList());
+        assertArrayEquals(csr.offsets, built.getCSR().offsets);
+        assertArrayEquals(csr.edgeIds, built.getCSR().edgeIds);
+        assertEquals(17, built.indexOf("V17"));
+        assertEquals(new KruskalMST().findMST(expected).getTotalCost(), new PrimMST().findMST(built).getTotalCost());
+
+        Graph.Builder byName = new Graph.Builder(vertices);
+        for (Graph.Edge edge : expected.getEdges()) byName.addEdge(edge.from, edge.to, edge.weight);
+        assertEquals(expected.getEdges(), byName.build().getEdges());
+    }
+
+    @Test
+    void testValidation() {
+        List<String> vertices = Arrays.asList("A", "B", "C");
+        IllegalArgumentException duplicate = assertThrows(IllegalArgumentException.class,
+                () -> new Graph.Builder(vertices).addEdge(0, 1, 3).addEdge(1, 0, 4).build());
+        assertTrue(duplicate.getMessage().contains("Duplicate edge: B-A"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Graph.Builder(Arrays.asList("A", "B", "A")).build());
+        assertThrows(IllegalArgumentException.class, () -> new Graph.Builder(vertices).addEdge(0, 3, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Graph.Builder(vertices).addEdge("A", "D", 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> Graph.fromArrays(vertices, new int[]{0}, new int[]{1, 2}, new int[]{1}));
+
+        // Trusted input skips the duplicate checks but not the id range check
+        Graph trusted = new Graph.Builder(vertices).trusted().addEdge(0, 1, 3).addEdge(1, 0, 4).build();
+        assertEquals(2, trusted.getEdgeCount());
+        assertThrows(IllegalArgumentException.class, () -> new Graph.Builder(vertices).trusted().addEdge(-1, 0, 1));
+
+        Graph.Builder builder = new Graph.Builder(vertices).addEdge(0, 1, 1);
+        builder.build();
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, () -> builder.addEdge(1, 2, 1));
+    }
+}
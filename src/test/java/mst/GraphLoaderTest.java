@@ -0,0 +1,125 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class GraphLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testLoadsSampleFile() throws IOException {
+        List<Graph> graphs = GraphLoader.loadGraphsFromFile("graphs/test_graph.json");
+
+        assertEquals(1, graphs.size());
+        assertEquals(Arrays.asList("A", "B", "C"), graphs.get(0).getVertices());
+        assertEquals(3, graphs.get(0).getEdgeCount());
+        assertEquals(new Graph.Edge("B", "C", 2), graphs.get(0).getEdges().get(1));
+    }
+
+    @Test
+    void testEdgesBeforeNodesAndExtraFields() throws IOException {
+        String file = write("{\"meta\": {\"x\": [1, 2]}, \"graphs\": [{\"edges\": ["
+                + "{\"weight\": 4, \"to\": \"B\", \"from\": \"A\", \"note\": [1]}],"
+                + " \"id\": 9, \"nodes\": [\"A\", \"B\"]}]}");
+
+        List<Graph> graphs = GraphLoader.loadGraphsFromFile(file);
+        assertEquals(1, graphs.size());
+        assertEquals(new Graph.Edge("A", "B", 4), graphs.get(0).getEdges().get(0));
+    }
+
+    @Test
+    void testStreamsGraphsOneAtATime() throws IOException {
+        String file = write("{\"graphs\": ["
+                + "{\"nodes\": [\"A\", \"B\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 1}]},"
+                + "{\"nodes\": [\"X\"], \"edges\": []}]}");
+
+        try (Stream<Graph> stream = GraphLoader.streamGraphs(file)) {
+            List<Integer> sizes = stream.map(Graph::getVertexCount).collect(Collectors.toList());
+            assertEquals(Arrays.asList(2, 1), sizes);
+        }
+    }
+
+    @Test
+    void testInvalidInputsThrowException() throws IOException {
+        assertLoadFails("{\"other\": []}", "missing 'graphs' array");
+        assertLoadFails("{\"graphs\": [{\"edges\": []}]}", "missing 'nodes' array");
+        assertLoadFails("{\"graphs\": [{\"nodes\": [\"A\", \"A\"], \"edges\": []}]}", "Duplicate vertex");
+        assertLoadFails("{\"graphs\": [{\"nodes\": [\"A\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 1}]}]}",
+                "non-existent vertex");
+        assertLoadFails("{\"graphs\": [{\"nodes\": [\"A\", \"B\"], \"edges\": ["
+                + "{\"from\": \"A\", \"to\": \"B\", \"weight\": 1}, {\"from\": \"B\", \"to\": \"A\", \"weight\": 2}]}]}",
+                "Duplicate edge");
+        assertLoadFails("{\"graphs\": [{\"nodes\": [\"A\", \"B\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\"}]}]}",
+                "missing required fields");
+        assertThrows(IOException.class, () -> GraphLoader.loadGraphsFromFile("graphs/does_not_exist.json"));
+    }
+
+    @Test
+    void testBinaryRoundTrip() throws IOException {
+        String binaryFile = tempDir.resolve("small" + BinaryGraphFormat.EXTENSION).toString();
+        int written = BinaryGraphFormat.convert("graphs/small_dense_graphs.json", binaryFile);
+
+        assertTrue(BinaryGraphFormat.isBinaryGraphFile(Path.of(binaryFile)));
+        assertFalse(BinaryGraphFormat.isBinaryGraphFile(Path.of("graphs/small_dense_graphs.json")));
+
+        List<Graph> fromJson = GraphLoader.loadGraphsFromFile("graphs/small_dense_graphs.json");
+        List<Graph> fromBinary = GraphLoader.loadGraphsFromFile(binaryFile);
+        assertEquals(fromJson.size(), written);
+        assertEquals(fromJson.size(), fromBinary.size());
+        for (int i = 0; i < fromJson.size(); i++) {
+            assertEquals(fromJson.get(i).getVertices(), fromBinary.get(i).getVertices());
+            assertEquals(fromJson.get(i).getEdges(), fromBinary.get(i).getEdges());
+        }
+    }
+
+    @Test
+    void testTruncatedBinaryFileThrowsException() throws IOException {
+        Path binaryFile = tempDir.resolve("test" + BinaryGraphFormat.EXTENSION);
+        BinaryGraphFormat.convert("graphs/test_graph.json", binaryFile.toString());
+        byte[] bytes = Files.readAllBytes(binaryFile);
+        Files.write(binaryFile, Arrays.copyOf(bytes, bytes.length - 5));
+
+        assertThrows(IOException.class, () -> GraphLoader.loadGraphsFromFile(binaryFile.toString()));
+    }
+
+    @Test
+    void testCorruptCountsRejectedBeforeAllocation() throws IOException {
+        Path binaryFile = tempDir.resolve("corrupt" + BinaryGraphFormat.EXTENSION);
+        BinaryGraphFormat.convert("graphs/test_graph.json", binaryFile.toString());
+        byte[] bytes = Files.readAllBytes(binaryFile);
+
+        // File header (12 bytes), section length (8), then vertex count and edge count
+        ByteBuffer hugeVertexCount = ByteBuffer.wrap(bytes.clone()).putInt(20, Integer.MAX_VALUE);
+        Files.write(binaryFile, hugeVertexCount.array());
+        IOException e = assertThrows(IOException.class, () -> GraphLoader.loadGraphsFromFile(binaryFile.toString()));
+        assertTrue(e.getMessage().contains("vertex count"), e.getMessage());
+
+        ByteBuffer hugeNameLength = ByteBuffer.wrap(bytes.clone()).putInt(28, Integer.MAX_VALUE);
+        Files.write(binaryFile, hugeNameLength.array());
+        e = assertThrows(IOException.class, () -> GraphLoader.loadGraphsFromFile(binaryFile.toString()));
+        assertTrue(e.getMessage().contains("name length"), e.getMessage());
+    }
+
+    private void assertLoadFails(String json, String expectedMessage) throws IOException {
+        String file = write(json);
+        IOException e = assertThrows(IOException.class, () -> GraphLoader.loadGraphsFromFile(file));
+        assertTrue(e.getMessage().contains(expectedMessage), e.getMessage());
+    }
+
+    private String write(String json) throws IOException {
+        Path file = Files.createTempFile(tempDir, "graphs", ".json");
+        Files.write(file, json.getBytes());
+        return file.toString();
+    }
+}
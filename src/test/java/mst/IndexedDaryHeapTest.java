@@ -0,0 +1,60 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+class IndexedDaryHeapTest {
+
+    @Test
+    void testPollsInKeyOrderAfterDecreaseKey() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(5, 3);
+        heap.insert(0, 50);
+        heap.insert(1, 40);
+        heap.insert(2, 30);
+        heap.insert(3, 20);
+        heap.decreaseKey(0, 10);
+        assertFalse(heap.insertOrDecrease(1, 45));
+        assertTrue(heap.insertOrDecrease(4, 5));
+
+        assertEquals(5, heap.size());
+        assertEquals(4, heap.pollMin());
+        assertEquals(0, heap.pollMin());
+        assertEquals(3, heap.pollMin());
+        assertEquals(2, heap.pollMin());
+        assertEquals(1, heap.pollMin());
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(1));
+    }
+
+    @Test
+    void testMatchesSortedOrderForEveryArity() {
+        Random random = new Random(7);
+        for (int arity = 2; arity <= 8; arity++) {
+            int n = 500;
+            IndexedDaryHeap heap = new IndexedDaryHeap(n, arity);
+            int[] expected = new int[n];
+            for (int i = 0; i < n; i++) {
+                expected[i] = random.nextInt(1000);
+                heap.insert(i, expected[i] + 100);
+                heap.decreaseKey(i, expected[i]);
+            }
+            Arrays.sort(expected);
+            for (int i = 0; i < n; i++) {
+                int item = heap.pollMin();
+                assertEquals(expected[i], heap.keyOf(item), "arity " + arity);
+            }
+        }
+    }
+
+    @Test
+    void testInvalidOperationsThrowException() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(2);
+        assertThrows(NoSuchElementException.class, heap::pollMin);
+        heap.insert(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new IndexedDaryHeap(4, 1));
+    }
+}
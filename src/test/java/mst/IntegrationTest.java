@@ -36,4 +36,105 @@ class IntegrationTest {
         // Clean up
         csvFile.delete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAdditionalAlgorithmsAppearInOutputs() throws IOException {
+        MSTTester tester = new MSTTester(java.util.Arrays.asList(
+                new PrimMST(), new KruskalMST(), new FilterKruskalMST()));
+
+        tester.testAllGraphs("graphs/test_graph.json", "results/test_output.json");
+        tester.generateCSVSummary("graphs/test_graph.json", "results/test_summary.csv");
+
+        java.io.File outputFile = new java.io.File("results/test_output.json");
+        java.io.File csvFile = new java.io.File("results/test_summary.csv");
+        String json = new String(java.nio.file.Files.readAllBytes(outputFile.toPath()));
+        String header = java.nio.file.Files.readAllLines(csvFile.toPath()).get(0);
+
+        assertTrue(json.contains("\"filter_kruskal\""));
+        assertEquals("GraphId,Vertices,Edges,PrimCost,KruskalCost,FilterKruskalCost,"
+                + "PrimTime(ms),KruskalTime(ms),FilterKruskalTime(ms),"
+                + "PrimOperations,KruskalOperations,FilterKruskalOperations", header);
+
+        // Clean up
+        outputFile.delete();
+        csvFile.delete();
+    }
+
+    @Test
+    void testParallelRunKeepsGraphOrder() throws IOException {
+        MSTTester sequential = new MSTTester();
+        sequential.testAllGraphs("graphs/small_dense_graphs.json", "results/test_sequential.json");
+
+        MSTTester parallel = new MSTTester();
+        parallel.setParallelism(3);
+        parallel.setTimingIsolation(false);
+        parallel.testAllGraphs("graphs/small_dense_graphs.json", "results/test_parallel.json");
+
+        com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
+        java.io.File sequentialFile = new java.io.File("results/test_sequential.json");
+        java.io.File parallelFile = new java.io.File("results/test_parallel.json");
+        com.fasterxml.jackson.databind.JsonNode expected = mapper.readTree(sequentialFile).get("results");
+        com.fasterxml.jackson.databind.JsonNode actual = mapper.readTree(parallelFile).get("results");
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i + 1, actual.get(i).get("graph_id").asInt());
+            assertEquals(expected.get(i).get("input_stats"), actual.get(i).get("input_stats"));
+            assertEquals(expected.get(i).get("prim").get("total_cost"), actual.get(i).get("prim").get("total_cost"));
+            assertEquals(expected.get(i).get("kruskal").get("mst_edges"), actual.get(i).get("kruskal").get("mst_edges"));
+        }
+
+        // Clean up
+        sequentialFile.delete();
+        parallelFile.delete();
+    }
+
+    @Test
+    void testSinglePassWritesJsonAndCsv() throws IOException {
+        int[] runs = new int[1];
+        MSTAlgorithm countingPrim = new MSTAlgorithm() {
+            private final PrimMST prim = new PrimMST();
+
+            @Override
+            public String getName() { return "Prim"; }
+
+            @Override
+            public MSTResult findMST(Graph graph) {
+                runs[0]++;
+                return prim.findMST(graph);
+            }
+        };
+        MSTTester tester = new MSTTester(java.util.Collections.singletonList(countingPrim));
+
+        tester.runCategory("graphs/small_dense_graphs.json", "results/test_output.json", "results/test_summary.csv");
+
+        java.io.File outputFile = new java.io.File("results/test_output.json");
+        java.io.File csvFile = new java.io.File("results/test_summary.csv");
+        assertTrue(outputFile.exists());
+        assertEquals(6, java.nio.file.Files.readAllLines(csvFile.toPath()).size());
+        // Five graphs, each solved exactly once for both outputs
+        assertEquals(5, runs[0]);
+
+        // Clean up
+        outputFile.delete();
+        csvFile.delete();
+    }
+
+    @Test
+    void testCompactJsonWritesEdgeIds() throws IOException {
+        MSTTester tester = new MSTTester();
+        tester.run("graphs/test_graph.json",
+                java.util.Collections.singletonList(new JsonResultSink("results/test_output.json", true)));
+
+        java.io.File outputFile = new java.io.File("results/test_output.json");
+        com.fasterxml.jackson.databind.JsonNode prim = new com.fasterxml.jackson.databind.ObjectMapper()
+                .readTree(outputFile).get("results").get(0).get("prim");
+
+        assertFalse(prim.has("mst_edges"));
+        assertEquals("[0,1]", prim.get("mst_edge_ids").toString());
+        assertEquals(3, prim.get("total_cost").asInt());
+
+        // Clean up
+        outputFile.delete();
+    }
+}
@@ -0,0 +1,83 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrMSTListenerTest {
+
+    @Test
+    void testEventsRecorded(@TempDir Path dir) throws IOException {
+        Path recordingFile = dir.resolve("mst.jfr");
+        Graph graph = GraphGenerator.generate(60, 0.3, 100, 2);
+        try (Recording recording = new Recording()) {
+            for (String name : Arrays.asList("mst.GraphParse", "mst.GraphValidate", "mst.AdjacencyBuild",
+                    "mst.Run", "mst.Phase", "mst.PrimHeap", "mst.ResultWrite")) {
+                recording.enable(name).withoutThreshold();
+            }
+            recording.start();
+
+            Path graphFile = dir.resolve("graphs.mstg");
+            BinaryGraphFormat.write(Collections.singletonList(graph).iterator(), graphFile);
+
+            MSTTester tester = new MSTTester(Arrays.asList(new PrimMST(), new KruskalMST()));
+            tester.setListener(new JfrMSTListener());
+            tester.run(graphFile.toString(), Collections.singletonList(new JsonResultSink(dir.resolve("out.json").toString())));
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        Map<String, List<RecordedEvent>> byName = events.stream()
+                .filter(e -> e.getEventType().getName().startsWith("mst."))
+                .collect(Collectors.groupingBy(e -> e.getEventType().getName()));
+
+        RecordedEvent parse = byName.get("mst.GraphParse").get(0);
+        assertEquals("binary", parse.getString("format"));
+        assertEquals(60, parse.getInt("vertexCount"));
+        assertNotNull(byName.get("mst.GraphValidate"));
+        assertTrue(byName.get("mst.AdjacencyBuild").stream().anyMatch(e -> "csr".equals(e.getString("layout"))));
+
+        List<String> runs = byName.get("mst.Run").stream().map(e -> e.getString("algorithm")).collect(Collectors.toList());
+        assertTrue(runs.contains("Prim") && runs.contains("Kruskal"), runs.toString());
+
+        // Kruskal phases come one event each; Prim's per-vertex phases are summed per run
+        List<RecordedEvent> phases = byName.get("mst.Phase");
+        assertTrue(phases.stream().anyMatch(e -> "Kruskal".equals(e.getString("algorithm"))
+                && "SORT".equals(e.getString("phase")) && e.getLong("count") == graph.getEdgeCount()));
+        List<RecordedEvent> primHeap = phases.stream()
+                .filter(e -> "Prim".equals(e.getString("algorithm")) && "HEAP".equals(e.getString("phase")))
+                .collect(Collectors.toList());
+        assertFalse(primHeap.isEmpty());
+        for (RecordedEvent e : primHeap) assertEquals(60, e.getLong("invocations"));
+
+        RecordedEvent heap = byName.get("mst.PrimHeap").get(0);
+        assertEquals(60, heap.getLong("polls"));
+        assertEquals(graph.getEdgeCount(), heap.getInt("edgeCount"));
+
+        RecordedEvent write = byName.get("mst.ResultWrite").get(0);
+        assertEquals("json", write.getString("format"));
+        assertEquals("Prim,Kruskal", write.getString("algorithm"));
+    }
+
+    @Test
+    void testCombineListeners() {
+        PhaseStatsListener stats = new PhaseStatsListener();
+        assertSame(stats, MSTListener.combine(MSTListener.NOOP, stats));
+
+        KruskalMST kruskal = new KruskalMST();
+        kruskal.setListener(MSTListener.combine(stats, new JfrMSTListener()));
+        MSTResult result = kruskal.findMST(GraphGenerator.generate(30, 0.5, 10, 1));
+        assertTrue(result.getPhaseStats().containsKey(MSTPhase.SORT));
+        assertThrows(IllegalArgumentException.class, () -> MSTListener.combine(stats, null));
+    }
+}
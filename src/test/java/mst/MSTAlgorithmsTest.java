@@ -119,6 +119,48 @@ class MSTAlgorithmsTest {
         // For disconnected graph, MST should have fewer than V-1 edges
         assertTrue(primResult.getMstEdges().size() < vertices.size() - 1);
         assertTrue(kruskalResult.getMstEdges().size() < vertices.size() - 1);
+
+        // ...but both cover every component
+        assertEquals(3, primResult.getTotalCost());
+        assertEquals(3, kruskalResult.getTotalCost());
+        assertEquals(2, primResult.getComponentCount());
+        assertEquals(2, kruskalResult.getComponentCount());
+        assertArrayEquals(new int[]{1, 2}, primResult.getComponentCosts());
+    }
+
+    @Test
+    void testSpanningForestOnManyIslands() {
+        // 60 islands of random sizes plus isolated vertices, shuffled vertex order
+        Random random = new Random(13);
+        List<String> vertices = new ArrayList<>();
+        List<Graph.Edge> edges = new ArrayList<>();
+        for (int island = 0; island < 60; island++) {
+            int size = 1 + random.nextInt(island % 10 == 0 ? 200 : 8);
+            List<String> members = new ArrayList<>();
+            for (int i = 0; i < size; i++) members.add("I" + island + "_" + i);
+            for (int i = 1; i < size; i++) {
+                edges.add(new Graph.Edge(members.get(random.nextInt(i)), members.get(i), random.nextInt(20)));
+                edges.add(new Graph.Edge(members.get(random.nextInt(size)), members.get(i), random.nextInt(20)));
+            }
+            vertices.addAll(members);
+        }
+        Collections.shuffle(vertices, random);
+        Graph graph = new Graph(vertices, edges);
+
+        MSTResult kruskalResult = new KruskalMST().findMST(graph);
+        MSTResult forestResult = new SpanningForestMST().findMST(graph);
+        MSTResult primResult = new PrimMST().findMST(graph);
+        MSTResult denseResult = new DensePrimMST().findMST(graph);
+
+        assertEquals(60, kruskalResult.getComponentCount());
+        for (MSTResult result : Arrays.asList(forestResult, primResult, denseResult)) {
+            assertEquals(kruskalResult.getTotalCost(), result.getTotalCost(), result.getAlgorithm());
+            assertEquals(60, result.getComponentCount(), result.getAlgorithm());
+            assertEquals(vertices.size() - 60, result.getMstEdges().size(), result.getAlgorithm());
+            assertEquals(kruskalResult.getTotalCost(), Arrays.stream(result.getComponentCosts()).sum());
+        }
+        assertArrayEquals(primResult.getComponentCosts(), forestResult.getComponentCosts());
+        assertArrayEquals(primResult.getComponentCosts(), denseResult.getComponentCosts());
     }
 
     @Test
@@ -163,4 +205,187 @@ class MSTAlgorithmsTest {
             new Graph.Edge("A", null, 1);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCSRViewMatchesEdgeList() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D");
+        List<Graph.Edge> edges = Arrays.asList(
+                new Graph.Edge("A", "B", 1),
+                new Graph.Edge("B", "C", 2),
+                new Graph.Edge("C", "A", 3)
+        );
+
+        Graph graph = new Graph(vertices, edges);
+        CSRGraph csr = graph.getCSR();
+
+        assertEquals(4, csr.vertexCount);
+        assertEquals(3, csr.edgeCount);
+        assertEquals(2 * edges.size(), csr.offsets[csr.vertexCount]);
+        assertEquals(0, csr.degree(graph.indexOf("D")));
+        assertEquals(-1, graph.indexOf("E"));
+
+        for (int v = 0; v < csr.vertexCount; v++) {
+            for (int slot = csr.offsets[v]; slot < csr.offsets[v + 1]; slot++) {
+                Graph.Edge edge = edges.get(csr.edgeIds[slot]);
+                String self = vertices.get(v);
+                String other = vertices.get(csr.targets[slot]);
+                assertEquals(edge.weight, csr.weights[slot]);
+                assertTrue((edge.from.equals(self) && edge.to.equals(other))
+                        || (edge.to.equals(self) && edge.from.equals(other)));
+            }
+        }
+    }
+
+    @Test
+    void testBoruvkaMatchesKruskalCost() {
+        Random random = new Random(3);
+        for (int vertexCount : new int[]{1, 2, 40, 400}) {
+            List<String> vertices = new ArrayList<>();
+            for (int i = 0; i < vertexCount; i++) vertices.add("V" + i);
+
+            // Small weight range forces many ties; density leaves some islands
+            List<Graph.Edge> edges = new ArrayList<>();
+            for (int i = 0; i < vertexCount; i++) {
+                for (int j = i + 1; j < vertexCount; j++) {
+                    if (random.nextDouble() < 0.3) {
+                        edges.add(new Graph.Edge(vertices.get(i), vertices.get(j), random.nextInt(10)));
+                    }
+                }
+            }
+
+            Graph graph = new Graph(vertices, edges);
+            MSTResult kruskalResult = new KruskalMST().findMST(graph);
+            MSTResult boruvkaResult = new BoruvkaMST().findMST(graph);
+
+            assertEquals(kruskalResult.getTotalCost(), boruvkaResult.getTotalCost(), "n=" + vertexCount);
+            assertEquals(kruskalResult.getMstEdges().size(), boruvkaResult.getMstEdges().size());
+        }
+    }
+
+    @Test
+    void testFilterKruskalMatchesKruskalCost() {
+        Random random = new Random(5);
+        List<String> vertices = new ArrayList<>();
+        for (int i = 0; i < 300; i++) vertices.add("V" + i);
+
+        List<Graph.Edge> edges = new ArrayList<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            for (int j = i + 1; j < vertices.size(); j++) {
+                edges.add(new Graph.Edge(vertices.get(i), vertices.get(j), random.nextInt(100) + 1));
+            }
+        }
+
+        Graph graph = new Graph(vertices, edges);
+        MSTResult kruskalResult = new KruskalMST().findMST(graph);
+        MSTResult filterResult = new FilterKruskalMST().findMST(graph);
+
+        assertEquals(kruskalResult.getTotalCost(), filterResult.getTotalCost());
+        assertEquals(vertices.size() - 1, filterResult.getMstEdges().size());
+    }
+
+    @Test
+    void testFilterKruskalWithSingleRepeatedWeight() {
+        List<String> vertices = new ArrayList<>();
+        for (int i = 0; i < 100; i++) vertices.add("V" + i);
+
+        List<Graph.Edge> edges = new ArrayList<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            for (int j = i + 1; j < vertices.size(); j++) {
+                edges.add(new Graph.Edge(vertices.get(i), vertices.get(j), 7));
+            }
+        }
+
+        MSTResult filterResult = new FilterKruskalMST().findMST(new Graph(vertices, edges));
+        assertEquals(7 * (vertices.size() - 1), filterResult.getTotalCost());
+    }
+
+    @Test
+    void testDensePrimMatchesPrimCost() {
+        Random random = new Random(9);
+        for (int vertexCount : new int[]{0, 1, 2, 50, 300}) {
+            List<String> vertices = new ArrayList<>();
+            for (int i = 0; i < vertexCount; i++) vertices.add("V" + i);
+
+            List<Graph.Edge> edges = new ArrayList<>();
+            for (int i = 0; i < vertexCount; i++) {
+                for (int j = i + 1; j < vertexCount; j++) {
+                    if (random.nextDouble() < 0.9) {
+                        edges.add(new Graph.Edge(vertices.get(i), vertices.get(j), random.nextInt(50)));
+                    }
+                }
+            }
+
+            Graph graph = new Graph(vertices, edges);
+            MSTResult primResult = new PrimMST().findMST(graph);
+            MSTResult denseResult = new DensePrimMST().findMST(graph);
+
+            assertEquals(primResult.getTotalCost(), denseResult.getTotalCost(), "n=" + vertexCount);
+            assertEquals(primResult.getMstEdges().size(), denseResult.getMstEdges().size());
+        }
+    }
+
+    @Test
+    void testPhaseStatsListenerRecordsPhases() {
+        List<String> vertices = new ArrayList<>();
+        for (int i = 0; i < 200; i++) vertices.add("V" + i);
+
+        Random random = new Random(11);
+        List<Graph.Edge> edges = new ArrayList<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            for (int j = i + 1; j < vertices.size(); j++) {
+                edges.add(new Graph.Edge(vertices.get(i), vertices.get(j), random.nextInt(1000)));
+            }
+        }
+        Graph graph = new Graph(vertices, edges);
+
+        PrimMST prim = new PrimMST();
+        KruskalMST kruskal = new KruskalMST();
+        FilterKruskalMST filterKruskal = new FilterKruskalMST();
+        BoruvkaMST boruvka = new BoruvkaMST();
+        int expectedCost = kruskal.findMST(graph).getTotalCost();
+        assertTrue(kruskal.findMST(graph).getPhaseStats().isEmpty());
+
+        PhaseStatsListener listener = new PhaseStatsListener();
+        for (MSTAlgorithm algorithm : Arrays.asList(prim, kruskal, filterKruskal, boruvka)) {
+            algorithm.setListener(listener);
+        }
+
+        MSTResult primResult = prim.findMST(graph);
+        assertEquals(expectedCost, primResult.getTotalCost());
+        assertEquals(vertices.size(), primResult.getPhaseStats().get(MSTPhase.HEAP).getCount());
+        assertEquals(2L * edges.size(), primResult.getPhaseStats().get(MSTPhase.RELAXATION).getCount());
+
+        MSTResult kruskalResult = kruskal.findMST(graph);
+        assertEquals(expectedCost, kruskalResult.getTotalCost());
+        assertEquals(edges.size(), kruskalResult.getPhaseStats().get(MSTPhase.SORT).getCount());
+        assertEquals(1, kruskalResult.getPhaseStats().get(MSTPhase.UNION_FIND).getInvocations());
+
+        MSTResult filterResult = filterKruskal.findMST(graph);
+        assertEquals(expectedCost, filterResult.getTotalCost());
+        assertTrue(filterResult.getPhaseStats().containsKey(MSTPhase.PARTITION));
+        assertTrue(filterResult.getPhaseStats().containsKey(MSTPhase.SORT));
+
+        MSTResult boruvkaResult = boruvka.findMST(graph);
+        assertEquals(expectedCost, boruvkaResult.getTotalCost());
+        assertTrue(boruvkaResult.getPhaseStats().containsKey(MSTPhase.CONTRACTION));
+
+        // Stats belong to one run only
+        kruskal.setListener(MSTListener.NOOP);
+        assertTrue(kruskal.findMST(graph).getPhaseStats().isEmpty());
+    }
+
+    @Test
+    void testListenerOnUninstrumentedAlgorithm() {
+        // An engine without instrumentation ignores listeners instead of failing
+        MSTAlgorithm plain = new MSTAlgorithm() {
+            @Override
+            public String getName() { return "Plain"; }
+
+            @Override
+            public MSTResult findMST(Graph graph) { return new KruskalMST().findMST(graph); }
+        };
+        plain.setListener(new PhaseStatsListener());
+        assertThrows(IllegalArgumentException.class, () -> plain.setListener(null));
+        assertThrows(IllegalArgumentException.class, () -> new KruskalMST().setListener(null));
+    }
+}
@@ -0,0 +1,91 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+class MSTResultCacheTest {
+
+    @Test
+    void testFingerprintTracksContent() {
+        Graph graph = GraphGenerator.generate(50, 0.2, 100, 1);
+        Graph same = new Graph(graph.getVertices(), graph.getEdges());
+        assertEquals(GraphFingerprint.of(graph), GraphFingerprint.of(same));
+
+        List<Graph.Edge> reweighted = new ArrayList<>(graph.getEdges());
+        Graph.Edge first = reweighted.get(0);
+        reweighted.set(0, new Graph.Edge(first.from, first.to, first.weight + 1));
+        assertNotEquals(GraphFingerprint.of(graph), GraphFingerprint.of(new Graph(graph.getVertices(), reweighted)));
+
+        // Edge ids are positions, so reordering must change the key
+        List<Graph.Edge> reordered = new ArrayList<>(graph.getEdges());
+        Collections.swap(reordered, 0, 1);
+        assertNotEquals(GraphFingerprint.of(graph), GraphFingerprint.of(new Graph(graph.getVertices(), reordered)));
+    }
+
+    @Test
+    void testMemoryHitsAndEviction() {
+        Graph graph = GraphGenerator.generate(100, 0.1, 100, 2);
+        MSTResultCache cache = new MSTResultCache(1 << 20);
+        KruskalMST kruskal = new KruskalMST();
+
+        MSTResult computed = cache.computeIfAbsent(graph, kruskal);
+        MSTResult cached = cache.computeIfAbsent(new Graph(graph.getVertices(), graph.getEdges()), kruskal);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(computed.getTotalCost(), cached.getTotalCost());
+        assertArrayEquals(computed.getMstEdgeIds(), cached.getMstEdgeIds());
+        assertEquals(computed.getMstEdges(), cached.getMstEdges());
+
+        // Room for roughly one 99-edge entry: adding a second evicts the first
+        MSTResultCache small = new MSTResultCache(600);
+        small.computeIfAbsent(graph, kruskal);
+        small.computeIfAbsent(graph, new PrimMST());
+        assertEquals(1, small.size());
+        assertEquals(1, small.getEvictionCount());
+        assertNotNull(small.get(GraphFingerprint.of(graph), graph, "Prim"));
+        assertNull(small.get(GraphFingerprint.of(graph), graph, "Kruskal"));
+    }
+
+    @Test
+    void testDiskTierSurvivesNewInstance(@TempDir Path dir) {
+        Graph graph = GraphGenerator.generate(80, 0.3, 1000, 3);
+        MSTSolver solver = new MSTSolver();
+        MSTResult computed = new MSTResultCache(1 << 20, dir).computeIfAbsent(graph, solver);
+
+        MSTResultCache reopened = new MSTResultCache(1 << 20, dir);
+        MSTResult cached = reopened.computeIfAbsent(graph, solver);
+        assertEquals(1, reopened.getDiskHitCount());
+        assertEquals(0, reopened.getMissCount());
+        assertEquals(computed.getTotalCost(), cached.getTotalCost());
+        assertEquals(computed.getPlannerChoice(), cached.getPlannerChoice());
+        assertEquals(computed.getExecutionTimeMs(), cached.getExecutionTimeMs());
+    }
+
+    @Test
+    void testTesterSkipsRecomputation(@TempDir Path dir) throws IOException {
+        int[] calls = {0};
+        MSTAlgorithm countingKruskal = new MSTAlgorithm() {
+            private final KruskalMST delegate = new KruskalMST();
+            public String getName() { return "Kruskal"; }
+            public MSTResult findMST(Graph graph) {
+                calls[0]++;
+                return delegate.findMST(graph);
+            }
+        };
+
+        MSTTester tester = new MSTTester(Collections.singletonList(countingKruskal));
+        tester.setCache(new MSTResultCache(1 << 20));
+        tester.testAllGraphs("graphs/test_graph.json", dir.resolve("first.json").toString());
+        int firstRunCalls = calls[0];
+        tester.testAllGraphs("graphs/test_graph.json", dir.resolve("second.json").toString());
+
+        assertTrue(firstRunCalls > 0);
+        assertEquals(firstRunCalls, calls[0]);
+        assertEquals(firstRunCalls, tester.getCache().getHitCount());
+    }
+}
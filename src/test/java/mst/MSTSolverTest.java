@@ -0,0 +1,80 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+class MSTSolverTest {
+
+    @Test
+    void testSolverMatchesKruskalAndRecordsPlan() {
+        for (double density : new double[]{0.01, 0.3, 1.0}) {
+            Graph graph = GraphGenerator.generate(400, density, 1000, 17);
+            MSTResult expected = new KruskalMST().findMST(graph);
+
+            MSTSolver solver = new MSTSolver();
+            MSTResult result = solver.findMST(graph);
+
+            assertEquals(expected.getTotalCost(), result.getTotalCost(), "density=" + density);
+            assertEquals(solver.choose(graph).getName(), result.getPlannerChoice());
+            assertTrue(result.getEstimatedTimeMs() > 0);
+        }
+        assertNull(new KruskalMST().findMST(GraphGenerator.generate(10, 0.5, 10, 1)).getPlannerChoice());
+    }
+
+    @Test
+    void testPlannerFollowsCostModel() {
+        Graph sparse = GraphGenerator.generate(3000, 0.002, 1000, 3);
+        assertNotEquals("PrimDense", new MSTSolver().choose(sparse).getName());
+
+        Graph complete = GraphGenerator.generate(500, 1.0, 100, 4);
+        assertEquals("PrimDense", new MSTSolver(withCoefficient("PrimDense", 1e-6)).choose(complete).getName());
+        assertEquals("Kruskal", new MSTSolver(withCoefficient("Kruskal", 1e-6)).choose(complete).getName());
+    }
+
+    @Test
+    void testCostModelRoundTrip(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("model.properties");
+        CostModel model = withCoefficient("Boruvka", 0.25);
+        model.store(file);
+
+        CostModel loaded = CostModel.load(file);
+        assertEquals(model.getCores(), loaded.getCores());
+        for (String engine : CostModel.ENGINES) {
+            assertEquals(model.getNanosPerStep(engine), loaded.getNanosPerStep(engine), 1e-12);
+        }
+        // Same core count, so the stored calibration is reused as is
+        assertEquals(0.25, CostModel.loadOrCalibrate(file).getNanosPerStep("Boruvka"), 1e-12);
+    }
+
+    @Test
+    void testInvalidCostModelFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("model.properties");
+        Files.write(file, Collections.singletonList("nanosPerStep.Prim=1.0"));
+        assertThrows(IOException.class, () -> CostModel.load(file));
+    }
+
+    @Test
+    void testUnknownEngineRejected() {
+        MSTAlgorithm unknown = new MSTAlgorithm() {
+            public String getName() { return "Mystery"; }
+            public MSTResult findMST(Graph graph) { return null; }
+        };
+        assertThrows(IllegalArgumentException.class,
+                () -> new MSTSolver(CostModel.defaults(), Collections.singletonList(unknown)));
+    }
+
+    private static CostModel withCoefficient(String engine, double nanosPerStep) {
+        Map<String, Double> coefficients = new HashMap<>();
+        for (String name : CostModel.ENGINES) {
+            coefficients.put(name, CostModel.defaults().getNanosPerStep(name));
+        }
+        coefficients.put(engine, nanosPerStep);
+        return new CostModel(coefficients, Runtime.getRuntime().availableProcessors());
+    }
+}
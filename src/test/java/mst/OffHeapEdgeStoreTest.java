@@ -0,0 +1,113 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.*;
+
+class OffHeapEdgeStoreTest {
+
+    @Test
+    void testStoreBackedGraphMatchesHeapGraph() {
+        Graph heapGraph = GraphGenerator.generate(400, 0.1, 1_000_000, 3);
+        try (OffHeapEdgeStore store = OffHeapEdgeStore.copyOf(heapGraph)) {
+            Graph graph = Graph.fromStore(heapGraph.getVertices(), store);
+            assertEquals(heapGraph.getEdgeCount(), graph.getEdgeCount());
+            assertEquals(GraphFingerprint.of(heapGraph), GraphFingerprint.of(graph));
+            assertEquals(heapGraph.getEdges(), graph.getEdges());
+            assertEquals(heapGraph.getAdjacencyList(), graph.getAdjacencyList());
+
+            MSTResult expected = new KruskalMST().findMST(heapGraph);
+            MSTResult result = new KruskalMST().findMST(graph);
+            assertEquals(expected.getTotalCost(), result.getTotalCost());
+            assertArrayEquals(expected.getMstEdgeIds(), result.getMstEdgeIds());
+            assertEquals(expected.getMstEdges(), result.getMstEdges());
+
+            // Engines without a store path refuse instead of copying the store to the heap
+            for (MSTAlgorithm engine : Arrays.asList(new PrimMST(), new DensePrimMST(), new FilterKruskalMST(),
+                    new BoruvkaMST(), new SpanningForestMST())) {
+                assertFalse(engine.supportsEdgeStore(), engine.getName());
+                assertThrows(IllegalArgumentException.class, () -> engine.findMST(graph), engine.getName());
+            }
+            MSTSolver solver = new MSTSolver();
+            assertEquals("Kruskal", solver.choose(graph).getName());
+            assertEquals(expected.getTotalCost(), solver.findMST(graph).getTotalCost());
+            assertEquals(expected.getTotalCost(), new ExternalKruskalMST().findMST(graph).getTotalCost());
+        }
+    }
+
+    @Test
+    void testSortOrderWithNegativeAndTiedWeights() {
+        int[] weights = {5, -3, 70_000, -3, Integer.MIN_VALUE, 5, Integer.MAX_VALUE, 0, 70_000};
+        try (OffHeapEdgeStore store = new OffHeapEdgeStore(2, weights.length)) {
+            for (int w : weights) store.add(0, 1, w);
+            ByteBuffer sorted = store.sortedEdgeIds();
+            int[] ids = new int[weights.length];
+            sorted.asIntBuffer().get(ids);
+            OffHeapEdgeStore.release(sorted);
+            assertArrayEquals(EdgeSorter.sortedEdgeIds(weights), ids);
+        }
+    }
+
+    @Test
+    void testDisconnectedStoreGraph() {
+        try (OffHeapEdgeStore store = new OffHeapEdgeStore(5, 4)) {
+            store.add(0, 1, 4);
+            store.add(1, 2, 1);
+            store.add(0, 2, 2);
+            store.add(3, 4, 7);
+            Graph graph = Graph.fromStore(Arrays.asList("A", "B", "C", "D", "E"), store);
+
+            MSTResult result = new KruskalMST().findMST(graph);
+            assertEquals(10, result.getTotalCost());
+            assertEquals(2, result.getComponentCount());
+            assertEquals(new Graph.Edge("B", "C", 1), result.getMstEdges().get(0));
+        }
+    }
+
+    @Test
+    void testReadFromEdgeFile(@TempDir Path dir) throws IOException {
+        Graph heapGraph = GraphGenerator.generate(100, 0.3, 50, 9);
+        Path edgeFile = dir.resolve("graph.edges");
+        EdgeFile.write(heapGraph, edgeFile);
+        try (OffHeapEdgeStore store = OffHeapEdgeStore.read(edgeFile)) {
+            assertEquals(heapGraph.getEdgeCount(), store.size());
+            Graph graph = Graph.fromStore(heapGraph.getVertices(), store);
+            assertEquals(new KruskalMST().findMST(heapGraph).getTotalCost(),
+                    new KruskalMST().findMST(graph).getTotalCost());
+        }
+    }
+
+    @Test
+    void testLifecycle() {
+        OffHeapEdgeStore store = new OffHeapEdgeStore(3, 2);
+        store.add(0, 1, 1);
+        store.add(1, 2, 2);
+        assertThrows(IllegalStateException.class, () -> store.add(0, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.weight(2));
+
+        Graph graph = Graph.fromStore(Arrays.asList("A", "B", "C"), store);
+        store.close();
+        store.close(); // idempotent
+        assertTrue(store.isClosed());
+        assertThrows(IllegalStateException.class, () -> store.weight(0));
+        assertThrows(IllegalStateException.class, store::size);
+        assertThrows(IllegalStateException.class, () -> graph.getEdges().get(0));
+        assertThrows(IllegalStateException.class, () -> new KruskalMST().findMST(graph));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        try (OffHeapEdgeStore store = new OffHeapEdgeStore(3, 4)) {
+            assertThrows(IllegalArgumentException.class, () -> store.add(0, 3, 1));
+            assertThrows(IllegalArgumentException.class, () -> store.add(-1, 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> Graph.fromStore(Arrays.asList("A", "B"), store));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapEdgeStore(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapEdgeStore(1, -1));
+    }
+}
@@ -0,0 +1,120 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+class PathMaxIndexTest {
+
+    @Test
+    void testMatchesTreeWalk() {
+        Graph graph = GraphGenerator.generate(150, 0.1, 30, 12);
+        MSTResult mst = new KruskalMST().findMST(graph);
+        PathMaxIndex index = new PathMaxIndex(graph, mst);
+        CSRGraph csr = graph.getCSR();
+
+        Random random = new Random(3);
+        for (int q = 0; q < 2000; q++) {
+            int u = random.nextInt(150);
+            int v = random.nextInt(150);
+            assertEquals(walkMax(csr, mst.getMstEdgeIds(), u, v), index.pathMaxEdge(u, v), u + "-" + v);
+        }
+
+        // Cycle property: no non-tree edge is lighter than the tree path it closes
+        Set<Integer> tree = new HashSet<>();
+        for (int e : mst.getMstEdgeIds()) tree.add(e);
+        for (int e = 0; e < csr.edgeCount; e++) {
+            if (tree.contains(e)) continue;
+            int u = csr.edgeSources[e];
+            int v = csr.edgeTargets[e];
+            assertTrue(index.pathMax(u, v) <= csr.edgeWeights[e]);
+            assertFalse(index.improves(u, v, csr.edgeWeights[e]));
+        }
+    }
+
+    @Test
+    void testDeepTreeAndForest() {
+        // A path 0-1-...-999 (weights rise to the middle) plus an isolated pair
+        int n = 1002;
+        Graph.Builder builder = new Graph.Builder(GraphGenerator.vertexNames(n));
+        for (int v = 0; v + 1 < 1000; v++) builder.addEdge(v, v + 1, Math.min(v, 998 - v));
+        builder.addEdge(1000, 1001, 7);
+        Graph graph = builder.build();
+        PathMaxIndex index = new PathMaxIndex(graph, new PrimMST().findMST(graph));
+
+        assertEquals(499, index.pathMax(0, 999));
+        assertEquals(499, index.pathMaxEdge(0, 999));
+        assertEquals(99, index.pathMax(50, 100));
+        assertEquals(7, index.pathMax(1001, 1000));
+        assertEquals(-1, index.pathMaxEdge(5, 5));
+        assertEquals(-1, index.pathMaxEdge(5, 1000));
+        assertFalse(index.connected(5, 1000));
+        assertTrue(index.improves(5, 1000, 1_000_000));
+        assertTrue(index.improves(0, 999, 498));
+        assertFalse(index.improves(0, 999, 499));
+        assertThrows(IllegalArgumentException.class, () -> index.pathMax(5, 1000));
+        assertThrows(IllegalArgumentException.class, () -> index.pathMax(5, 5));
+        assertThrows(IllegalArgumentException.class, () -> index.pathMaxEdge(0, n));
+    }
+
+    @Test
+    void testBatchMatchesSingleQueries() {
+        Graph graph = GraphGenerator.generate(3000, 0.002, 1_000_000, 5);
+        PathMaxIndex index = new PathMaxIndex(graph, new KruskalMST().findMST(graph));
+        Random random = new Random(8);
+        int[] us = new int[200_000];
+        int[] vs = new int[us.length];
+        for (int i = 0; i < us.length; i++) {
+            us[i] = random.nextInt(3000);
+            vs[i] = random.nextInt(3000);
+        }
+        int[] batch = index.pathMaxEdges(us, vs);
+        for (int i = 0; i < us.length; i += 97) {
+            assertEquals(index.pathMaxEdge(us[i], vs[i]), batch[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> index.pathMaxEdges(us, new int[1]));
+    }
+
+    @Test
+    void testRejectsForeignResult() {
+        Graph graph = GraphGenerator.generate(10, 1.0, 5, 1);
+        int[] cycle = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        MSTResult bogus = new MSTResult("Bogus", graph.edgesById(cycle), cycle, 0, 0, 0);
+        assertThrows(IllegalArgumentException.class, () -> new PathMaxIndex(graph, bogus));
+    }
+
+    // Heaviest (weight, id) edge on the tree path, by DFS over the tree edges
+    private static int walkMax(CSRGraph csr, int[] treeEdges, int u, int v) {
+        if (u == v) return -1;
+        Map<Integer, List<Integer>> adjacency = new HashMap<>();
+        for (int e : treeEdges) {
+            adjacency.computeIfAbsent(csr.edgeSources[e], k -> new ArrayList<>()).add(e);
+            adjacency.computeIfAbsent(csr.edgeTargets[e], k -> new ArrayList<>()).add(e);
+        }
+        Map<Integer, Integer> viaEdge = new HashMap<>();
+        viaEdge.put(u, -1);
+        Deque<Integer> stack = new ArrayDeque<>(Collections.singleton(u));
+        while (!stack.isEmpty()) {
+            int x = stack.pop();
+            for (int e : adjacency.getOrDefault(x, Collections.emptyList())) {
+                int y = csr.edgeSources[e] == x ? csr.edgeTargets[e] : csr.edgeSources[e];
+                if (!viaEdge.containsKey(y)) {
+                    viaEdge.put(y, e);
+                    stack.push(y);
+                }
+            }
+        }
+        if (!viaEdge.containsKey(v)) return -1;
+        int best = -1;
+        for (int x = v; x != u; ) {
+            int e = viaEdge.get(x);
+            if (best < 0 || csr.edgeWeights[e] > csr.edgeWeights[best]
+                    || (csr.edgeWeights[e] == csr.edgeWeights[best] && e > best)) {
+                best = e;
+            }
+            x = csr.edgeSources[e] == x ? csr.edgeTargets[e] : csr.edgeSources[e];
+        }
+        return best;
+    }
+}
@@ -167,4 +167,28 @@ class PerformanceTest {
         assertTrue(primResult.getOperationsCount() > 0);
         assertTrue(kruskalResult.getOperationsCount() > 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPrimHeapArityDoesNotChangeCost() {
+        List<String> vertices = new ArrayList<>();
+        List<Graph.Edge> edges = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            vertices.add("V" + i);
+        }
+        Random random = new Random(11);
+        for (int i = 0; i < vertices.size(); i++) {
+            for (int j = i + 1; j < vertices.size(); j++) {
+                edges.add(new Graph.Edge(vertices.get(i), vertices.get(j), random.nextInt(50) + 1));
+            }
+        }
+
+        Graph graph = new Graph(vertices, edges);
+        int expectedCost = new KruskalMST().findMST(graph).getTotalCost();
+
+        for (int arity = 2; arity <= 16; arity *= 2) {
+            MSTResult primResult = new PrimMST(arity).findMST(graph);
+            assertEquals(expectedCost, primResult.getTotalCost(), "arity " + arity);
+            assertEquals(vertices.size() - 1, primResult.getMstEdges().size());
+        }
+    }
+}
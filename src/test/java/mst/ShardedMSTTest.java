@@ -0,0 +1,118 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+class ShardedMSTTest {
+
+    @Test
+    void testMatchesKruskalForEveryPartitioning(@TempDir Path dir) throws IOException {
+        // Narrow weight range: lots of ties, so the id tie-break has to agree across shards
+        Graph graph = GraphGenerator.generate(250, 0.2, 20, 4);
+        MSTResult expected = new KruskalMST().findMST(graph);
+
+        for (ShardedMST.Partitioning partitioning : ShardedMST.Partitioning.values()) {
+            for (int shards : new int[]{1, 3, 8}) {
+                ShardedMST sharded = new ShardedMST(shards, partitioning, ShardedMST.Workers.THREADS, dir);
+                sharded.setChunkEdges(500);
+                MSTResult result = sharded.findMST(graph);
+
+                String label = partitioning + " x" + shards;
+                assertEquals(expected.getTotalCost(), result.getTotalCost(), label);
+                assertArrayEquals(expected.getMstEdgeIds(), result.getMstEdgeIds(), label);
+                assertEquals(1, result.getComponentCount(), label);
+            }
+        }
+        try (Stream<Path> leftovers = Files.list(dir)) {
+            assertEquals(0, leftovers.count(), "work files must be deleted");
+        }
+    }
+
+    @Test
+    void testWorkerProcesses(@TempDir Path dir) throws IOException {
+        Graph graph = GraphGenerator.generate(300, 0.1, 1000, 6);
+        Path edgeFile = dir.resolve("graph.edges");
+        EdgeFile.write(graph, edgeFile);
+
+        ShardedMST sharded = new ShardedMST(3, ShardedMST.Partitioning.VERTEX_HASH,
+                ShardedMST.Workers.PROCESSES, dir.resolve("work"));
+        sharded.setWorkerJvmOptions(Collections.singletonList("-Xmx64m"));
+        ShardedMST.Result result = sharded.solve(edgeFile);
+
+        MSTResult expected = new KruskalMST().findMST(graph);
+        assertEquals(expected.getTotalCost(), result.getTotalCost());
+        assertArrayEquals(expected.getMstEdgeIds(), result.getMstEdgeIds());
+        assertTrue(result.getSurvivingEdges() <= 3L * (graph.getVertexCount() - 1));
+    }
+
+    @Test
+    void testListenerRunsAreBalanced(@TempDir Path dir) throws IOException {
+        Graph graph = GraphGenerator.generate(100, 0.2, 50, 3);
+        Path edgeFile = dir.resolve("graph.edges");
+        EdgeFile.write(graph, edgeFile);
+        int[] calls = new int[2];
+        ShardedMST sharded = new ShardedMST(2, ShardedMST.Workers.THREADS);
+        sharded.setListener(MSTListener.combine(new PhaseStatsListener(), new MSTListener() {
+            @Override
+            public void runStart(String algorithm, int vertexCount, int edgeCount) { calls[0]++; }
+
+            @Override
+            public void runEnd(MSTResult result) { calls[1]++; }
+        }));
+
+        ShardedMST.Result solved = sharded.solve(edgeFile);
+        assertArrayEquals(new int[] {1, 1}, calls);
+        assertTrue(solved.getPhaseStats().containsKey(MSTPhase.MERGE));
+
+        MSTResult found = sharded.findMST(graph);
+        assertArrayEquals(new int[] {2, 2}, calls);
+        assertTrue(found.getPhaseStats().containsKey(MSTPhase.PARTITION));
+        assertTrue(found.getPhaseStats().containsKey(MSTPhase.SHARD));
+        assertFalse(found.getPhaseStats().containsKey(MSTPhase.FILTER));
+    }
+
+    @Test
+    void testDisconnectedGraph() {
+        List<String> vertices = Arrays.asList("A", "B", "C", "D", "E");
+        Graph graph = new Graph(vertices, Arrays.asList(
+                new Graph.Edge("A", "B", 4),
+                new Graph.Edge("B", "C", 1),
+                new Graph.Edge("A", "C", 2),
+                new Graph.Edge("D", "E", 7)
+        ));
+        MSTResult result = new ShardedMST(2, ShardedMST.Workers.THREADS).findMST(graph);
+        assertEquals(10, result.getTotalCost());
+        assertEquals(2, result.getComponentCount());
+        assertEquals(3, result.getMstEdges().size());
+    }
+
+    @Test
+    void testFailingWorkerReported(@TempDir Path dir) throws IOException {
+        Path edgeFile = dir.resolve("missing.edges");
+        ShardedMST sharded = new ShardedMST(2, ShardedMST.Workers.THREADS);
+        assertThrows(IOException.class, () -> sharded.solve(edgeFile));
+
+        // A worker JVM that cannot start fails the run instead of hanging it
+        Graph graph = GraphGenerator.generate(30, 0.3, 10, 1);
+        ShardedMST broken = new ShardedMST(2, ShardedMST.Partitioning.EDGE_RANGE, ShardedMST.Workers.PROCESSES, dir);
+        broken.setWorkerJvmOptions(Collections.singletonList("-XX:+NoSuchOption"));
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> broken.findMST(graph));
+        assertTrue(e.getMessage().contains("exited with code"));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedMST(0, ShardedMST.Workers.THREADS));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedMST(2, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ShardedMST(2, ShardedMST.Workers.THREADS).setParallelism(0));
+    }
+}
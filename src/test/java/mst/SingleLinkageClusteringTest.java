@@ -0,0 +1,113 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+class SingleLinkageClusteringTest {
+
+    @Test
+    void testMatchesCutMST() {
+        Graph graph = GraphGenerator.generate(120, 0.1, 50, 21);
+        int[] mstIds = new KruskalMST().findMST(graph).getMstEdgeIds();
+        SingleLinkageClustering.Dendrogram dendrogram = SingleLinkageClustering.dendrogram(graph);
+        assertEquals(mstIds.length, dendrogram.getMergeCount());
+
+        for (int k : new int[] {1, 2, 5, 17, 120}) {
+            int[] expected = cutHeaviest(graph, mstIds, k);
+            assertArrayEquals(expected, SingleLinkageClustering.byCount(graph, k), "k=" + k);
+            assertArrayEquals(expected, dendrogram.labels(k), "k=" + k);
+            assertEquals(k, Arrays.stream(expected).max().getAsInt() + 1);
+        }
+        for (int threshold : new int[] {0, 3, 10, 50}) {
+            int[] expected = cutAbove(graph, mstIds, threshold);
+            assertArrayEquals(expected, SingleLinkageClustering.byDistance(graph, threshold), "t=" + threshold);
+            assertArrayEquals(expected, dendrogram.labelsWithin(threshold), "t=" + threshold);
+        }
+    }
+
+    @Test
+    void testLazySortMatchesCutMST() {
+        // Well above BASE_CASE_SIZE with many tied weights, so the pivot splits
+        // and heavy-side filtering decide the merges
+        Graph graph = GraphGenerator.generate(700, 0.1, 40, 5);
+        assertTrue(graph.getEdgeCount() > 8 * SingleLinkageClustering.BASE_CASE_SIZE);
+        int[] mstIds = new KruskalMST().findMST(graph).getMstEdgeIds();
+        SingleLinkageClustering.Dendrogram dendrogram = SingleLinkageClustering.dendrogram(graph);
+        assertEquals(mstIds.length, dendrogram.getMergeCount());
+
+        for (int k : new int[] {1, 2, 3, 50, 699}) {
+            int[] expected = cutHeaviest(graph, mstIds, k);
+            assertArrayEquals(expected, SingleLinkageClustering.byCount(graph, k), "k=" + k);
+            assertArrayEquals(expected, dendrogram.labels(k), "k=" + k);
+        }
+    }
+
+    @Test
+    void testDendrogramMerges() {
+        // Two triangles joined by a weight-9 bridge, plus an isolated vertex
+        Graph.Builder builder = new Graph.Builder(GraphGenerator.vertexNames(7));
+        builder.addEdge(0, 1, 1);
+        builder.addEdge(1, 2, 2);
+        builder.addEdge(0, 2, 5);
+        builder.addEdge(3, 4, 1);
+        builder.addEdge(4, 5, 3);
+        builder.addEdge(2, 3, 9);
+        Graph graph = builder.build();
+        SingleLinkageClustering.Dendrogram dendrogram = SingleLinkageClustering.dendrogram(graph);
+
+        assertEquals(5, dendrogram.getMergeCount());
+        int[][] expected = {
+                // left, right, distance, size
+                {0, 1, 1, 2},
+                {3, 4, 1, 2},
+                {2, 7, 2, 3},
+                {5, 8, 3, 3},
+                {9, 10, 9, 6},
+        };
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i][0], dendrogram.getLeft(i), "merge " + i);
+            assertEquals(expected[i][1], dendrogram.getRight(i), "merge " + i);
+            assertEquals(expected[i][2], dendrogram.getDistance(i), "merge " + i);
+            assertEquals(expected[i][3], dendrogram.getSize(i), "merge " + i);
+        }
+        assertEquals(5, dendrogram.getEdgeId(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> dendrogram.getLeft(5));
+
+        // The isolated vertex keeps its own cluster however small k is
+        assertArrayEquals(new int[] {0, 0, 0, 0, 0, 0, 1}, SingleLinkageClustering.byCount(graph, 1));
+        assertArrayEquals(new int[] {0, 0, 0, 1, 1, 1, 2}, SingleLinkageClustering.byCount(graph, 3));
+        assertArrayEquals(new int[] {0, 0, 0, 1, 1, 2, 3}, SingleLinkageClustering.byDistance(graph, 2));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6}, SingleLinkageClustering.byDistance(graph, 0));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6}, dendrogram.labels(10));
+    }
+
+    @Test
+    void testInvalidCount() {
+        Graph graph = GraphGenerator.generate(10, 0.5, 10, 1);
+        assertThrows(IllegalArgumentException.class, () -> SingleLinkageClustering.byCount(graph, 0));
+        assertThrows(IllegalArgumentException.class, () -> SingleLinkageClustering.dendrogram(graph).labels(0));
+    }
+
+    // Reference: drop the k - 1 heaviest MST edges (by weight, then id)
+    private static int[] cutHeaviest(Graph graph, int[] mstIds, int k) {
+        CSRGraph csr = graph.getCSR();
+        Integer[] order = Arrays.stream(mstIds).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.<Integer>comparingInt(e -> csr.edgeWeights[e]).thenComparingInt(e -> e));
+        UnionFind uf = new UnionFind(csr.vertexCount);
+        for (int i = 0; i < order.length - (k - 1); i++) {
+            uf.union(csr.edgeSources[order[i]], csr.edgeTargets[order[i]]);
+        }
+        return SingleLinkageClustering.labels(uf);
+    }
+
+    private static int[] cutAbove(Graph graph, int[] mstIds, int threshold) {
+        CSRGraph csr = graph.getCSR();
+        UnionFind uf = new UnionFind(csr.vertexCount);
+        for (int e : mstIds) {
+            if (csr.edgeWeights[e] <= threshold) uf.union(csr.edgeSources[e], csr.edgeTargets[e]);
+        }
+        return SingleLinkageClustering.labels(uf);
+    }
+}
@@ -0,0 +1,51 @@
+package mst;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnionFindTest {
+
+    @Test
+    void testUnionAndFind() {
+        UnionFind uf = new UnionFind(5);
+        assertEquals(5, uf.getComponentCount());
+
+        assertTrue(uf.union(0, 1));
+        assertTrue(uf.union(3, 4));
+        assertFalse(uf.union(1, 0));
+
+        assertTrue(uf.connected(0, 1));
+        assertTrue(uf.connected(3, 4));
+        assertFalse(uf.connected(1, 3));
+        assertEquals(3, uf.getComponentCount());
+
+        uf.unionRoots(uf.find(1), uf.find(4));
+        assertTrue(uf.connected(0, 3));
+        assertEquals(2, uf.getComponentCount());
+    }
+
+    @Test
+    void testFindOnMaximumDepthTree() {
+        // Doubling unions of equal-rank roots build a binomial tree of rank 20:
+        // vertex n - 1 ends up 20 links below root 0, the deepest union by rank allows
+        int depth = 20;
+        int n = 1 << depth;
+        UnionFind uf = new UnionFind(n);
+        for (int step = 1; step < n; step <<= 1) {
+            for (int i = 0; i < n; i += 2 * step) {
+                uf.unionRoots(i, i + step);
+            }
+        }
+        assertEquals(1, uf.getComponentCount());
+        assertEquals(0, uf.find(n - 1));
+        // Path halving shortened the path; the set is unchanged
+        assertEquals(0, uf.find(n - 1));
+        assertTrue(uf.connected(n - 1, n / 2 - 1));
+        assertFalse(uf.union(n - 1, 1));
+    }
+
+    @Test
+    void testNegativeSizeThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new UnionFind(-1));
+    }
+}